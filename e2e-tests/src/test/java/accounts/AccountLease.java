@@ -0,0 +1,62 @@
+package accounts;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Exclusive, time-limited right of one session to use a test account
+ */
+public class AccountLease {
+
+    private final int slot;
+    private final TestAccount account;
+    private final AtomicReference<AccountState> state;
+    private final String owner;
+    private final long expiresAtMillis;
+
+    AccountLease(int slot, TestAccount account, AtomicReference<AccountState> state, String owner, long expiresAtMillis) {
+        this.slot = slot;
+        this.account = account;
+        this.state = state;
+        this.owner = owner;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public TestAccount getAccount() {
+        return account;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public AccountState getState() {
+        return state.get();
+    }
+
+    /**
+     * Atomically update the account's state, e.g. lease.updateState(s -> s.withLoggedIn(true))
+     */
+    public void updateState(UnaryOperator<AccountState> update) {
+        state.updateAndGet(update);
+    }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() > expiresAtMillis;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    /**
+     * Same account and owner with a new expiry time
+     */
+    AccountLease renewedUntil(long expiresAtMillis) {
+        return new AccountLease(slot, account, state, owner, expiresAtMillis);
+    }
+}
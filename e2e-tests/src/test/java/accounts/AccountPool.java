@@ -0,0 +1,238 @@
+package accounts;
+
+import config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pool of backend test accounts, each leased exclusively to one session so parallel sessions
+ * never log in with the same account.
+ *
+ * Leasing is lock-free: a free slot is claimed by a compare-and-set from null to the new lease, and a lease
+ * whose timeout has passed can be claimed the same way. The owning thread renews its lease by swapping in a
+ * copy with a later expiry, at session setup and before every test, so only a thread that stops making progress
+ * loses its account. Account state survives across leases.
+ *
+ * Accounts are read from (first match wins):
+ * - test.accounts.file: one "username,password" per line, '#' starts a comment
+ * - test.accounts: "username:password;username:password"
+ * - test.username / test.password: a pool of one
+ *
+ * Usage:
+ * - AccountPool.leaseForCurrentThread(); // In setup, blocks until an account is free
+ * - AccountPool.renewCurrentThread(); // Before each test, keeps the lease from expiring
+ * - AccountPool.currentLease(); // The current thread's lease, or null
+ * - AccountPool.releaseCurrentThread(); // In teardown
+ */
+@Slf4j
+public class AccountPool {
+
+    private static AccountPool instance;
+    private static final ThreadLocal<AccountLease> leaseThreadLocal = new ThreadLocal<>();
+
+    private final List<TestAccount> accounts;
+    private final AtomicReferenceArray<AccountLease> leases;
+    private final List<AtomicReference<AccountState>> states = new ArrayList<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final long leaseTimeoutMillis;
+
+    AccountPool(List<TestAccount> accounts, long leaseTimeoutMillis) {
+        if (accounts.isEmpty()) {
+            throw new RuntimeException("❌ No test accounts configured");
+        }
+        this.accounts = List.copyOf(accounts);
+        this.leases = new AtomicReferenceArray<>(accounts.size());
+        for (int i = 0; i < accounts.size(); i++) {
+            states.add(new AtomicReference<>(AccountState.INITIAL));
+        }
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+    }
+
+    public static AccountPool getInstance() {
+        if (instance == null) {
+            synchronized (AccountPool.class) {
+                if (instance == null) {
+                    TestConfig config = TestConfig.getInstance();
+                    instance = new AccountPool(loadAccounts(config),
+                            TimeUnit.MINUTES.toMillis(config.getAccountLeaseTimeoutMinutes()));
+                    log.info("✅ Account pool ready with {} accounts", instance.size());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Lease an account for the current thread's session, renewing an existing lease of this thread
+     * @throws RuntimeException if this thread's lease expired and its account was given to another session
+     */
+    public static AccountLease leaseForCurrentThread() {
+        if (leaseThreadLocal.get() != null) {
+            return renewCurrentThread();
+        }
+        TestConfig config = TestConfig.getInstance();
+        AccountLease lease = getInstance().acquire(Thread.currentThread().getName(),
+                TimeUnit.SECONDS.toMillis(config.getAccountAcquireTimeoutSeconds()));
+        leaseThreadLocal.set(lease);
+        return lease;
+    }
+
+    /**
+     * Extend the current thread's lease by the lease timeout
+     * @return renewed lease, or null if this thread holds none
+     * @throws RuntimeException if the lease expired and its account was given to another session
+     */
+    public static AccountLease renewCurrentThread() {
+        AccountLease lease = leaseThreadLocal.get();
+        if (lease == null) {
+            return null;
+        }
+        AccountLease renewed = getInstance().renew(lease);
+        leaseThreadLocal.set(renewed);
+        return renewed;
+    }
+
+    /**
+     * Get the current thread's lease
+     * @return lease, or null if this thread holds none
+     */
+    public static AccountLease currentLease() {
+        return leaseThreadLocal.get();
+    }
+
+    /**
+     * Return the current thread's account to the pool
+     */
+    public static void releaseCurrentThread() {
+        AccountLease lease = leaseThreadLocal.get();
+        if (lease != null) {
+            getInstance().release(lease);
+            leaseThreadLocal.remove();
+        }
+    }
+
+    /**
+     * Lease a free account, waiting up to the given time for one to be released or to expire
+     */
+    public AccountLease acquire(String owner, long waitMillis) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        long backoffNanos = TimeUnit.MILLISECONDS.toNanos(10);
+        while (true) {
+            AccountLease lease = tryAcquire(owner);
+            if (lease != null) {
+                log.info("🎫 Leased account {} to {} ({})", lease.getAccount(), owner, lease.getState());
+                return lease;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new RuntimeException("❌ No test account became available within " + waitMillis + " ms for " + owner);
+            }
+            LockSupport.parkNanos(backoffNanos);
+            backoffNanos = Math.min(backoffNanos * 2, TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Try once to claim a free or expired slot
+     * @return lease, or null if every account is held by a live lease
+     */
+    public AccountLease tryAcquire(String owner) {
+        int size = accounts.size();
+        int start = Math.floorMod(nextSlot.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            int slot = (start + i) % size;
+            AccountLease current = leases.get(slot);
+            if (current != null && !current.isExpired()) {
+                continue;
+            }
+            AccountLease lease = new AccountLease(slot, accounts.get(slot), states.get(slot), owner,
+                    System.currentTimeMillis() + leaseTimeoutMillis);
+            if (leases.compareAndSet(slot, current, lease)) {
+                if (current != null) {
+                    log.warn("⚠️ Lease of account {} by {} expired, reassigned to {}", current.getAccount(), current.getOwner(), owner);
+                }
+                return lease;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Extend a lease that is still held, even if its timeout has passed but no one claimed the account yet
+     * @return the lease to use from now on
+     * @throws RuntimeException if the account was given to another session
+     */
+    public AccountLease renew(AccountLease lease) {
+        AccountLease renewed = lease.renewedUntil(System.currentTimeMillis() + leaseTimeoutMillis);
+        if (!leases.compareAndSet(lease.getSlot(), lease, renewed)) {
+            AccountLease current = leases.get(lease.getSlot());
+            throw new RuntimeException("❌ Lease of account " + lease.getAccount() + " by " + lease.getOwner()
+                    + " expired and was reassigned to " + (current != null ? current.getOwner() : "nobody"));
+        }
+        return renewed;
+    }
+
+    /**
+     * Return an account. A lease that already expired and was reassigned is left alone.
+     */
+    public void release(AccountLease lease) {
+        if (leases.compareAndSet(lease.getSlot(), lease, null)) {
+            log.info("🎫 Released account {} from {}", lease.getAccount(), lease.getOwner());
+        } else {
+            log.warn("⚠️ Lease of account {} by {} had already expired", lease.getAccount(), lease.getOwner());
+        }
+    }
+
+    public int size() {
+        return accounts.size();
+    }
+
+    private static List<TestAccount> loadAccounts(TestConfig config) {
+        List<TestAccount> accounts = new ArrayList<>();
+        String file = config.getAccountsFile();
+        if (file != null) {
+            try {
+                for (String line : Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8)) {
+                    String trimmed = line.trim();
+                    if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                        accounts.add(parseAccount(trimmed, ','));
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("❌ Failed to read test accounts from " + file + ": " + e.getMessage(), e);
+            }
+            return accounts;
+        }
+
+        String inline = config.getProperty("test.accounts", null);
+        if (inline != null && !inline.isBlank()) {
+            for (String entry : inline.split(";")) {
+                if (!entry.isBlank()) {
+                    accounts.add(parseAccount(entry.trim(), ':'));
+                }
+            }
+            return accounts;
+        }
+
+        accounts.add(new TestAccount(config.getTestUsername(), config.getTestPassword()));
+        return accounts;
+    }
+
+    private static TestAccount parseAccount(String entry, char separator) {
+        int index = entry.indexOf(separator);
+        if (index <= 0) {
+            throw new RuntimeException("❌ Invalid test account entry, expected username" + separator + "password");
+        }
+        return new TestAccount(entry.substring(0, index).trim(), entry.substring(index + 1).trim());
+    }
+}
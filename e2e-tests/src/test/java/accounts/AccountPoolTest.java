@@ -0,0 +1,103 @@
+package accounts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountPoolTest {
+
+    @Test
+    void neverLeasesAnAccountToTwoOwnersAtOnce() throws Exception {
+        AccountPool pool = new AccountPool(accounts(3), TimeUnit.MINUTES.toMillis(30));
+        Set<String> held = ConcurrentHashMap.newKeySet();
+        AtomicInteger maxHeld = new AtomicInteger();
+        int threads = 12;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String owner = "worker-" + i;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 200; j++) {
+                    AccountLease lease = pool.acquire(owner, TimeUnit.SECONDS.toMillis(30));
+                    String username = lease.getAccount().getUsername();
+                    assertTrue(held.add(username), username + " was leased twice");
+                    maxHeld.accumulateAndGet(held.size(), Math::max);
+                    Thread.yield();
+                    held.remove(username);
+                    pool.release(lease);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertTrue(maxHeld.get() <= 3);
+        assertNotNull(pool.tryAcquire("after"));
+    }
+
+    @Test
+    void tryAcquireReturnsNullWhenEveryAccountIsLeased() {
+        AccountPool pool = new AccountPool(accounts(2), TimeUnit.MINUTES.toMillis(30));
+        assertNotNull(pool.tryAcquire("a"));
+        assertNotNull(pool.tryAcquire("b"));
+
+        assertNull(pool.tryAcquire("c"));
+    }
+
+    @Test
+    void renewedLeaseOutlivesItsOriginalTimeout() throws InterruptedException {
+        AccountPool pool = new AccountPool(accounts(1), 500);
+        AccountLease lease = pool.tryAcquire("owner");
+
+        Thread.sleep(300);
+        AccountLease renewed = pool.renew(lease);
+        Thread.sleep(300);
+
+        assertTrue(lease.isExpired());
+        assertNull(pool.tryAcquire("other"));
+        pool.release(renewed);
+        assertNotNull(pool.tryAcquire("other"));
+    }
+
+    @Test
+    void renewingAReassignedLeaseFails() throws InterruptedException {
+        AccountPool pool = new AccountPool(accounts(1), 50);
+        AccountLease lease = pool.tryAcquire("owner");
+
+        Thread.sleep(100);
+        AccountLease taken = pool.tryAcquire("other");
+
+        assertNotNull(taken);
+        RuntimeException e = assertThrows(RuntimeException.class, () -> pool.renew(lease));
+        assertTrue(e.getMessage().contains("other"));
+    }
+
+    private static List<TestAccount> accounts(int count) {
+        List<TestAccount> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            accounts.add(new TestAccount("user" + i, "secret"));
+        }
+        return accounts;
+    }
+}
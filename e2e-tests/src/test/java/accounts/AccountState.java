@@ -0,0 +1,45 @@
+package accounts;
+
+/**
+ * Immutable snapshot of what is known about an account's backend state.
+ * Carried from lease to lease so the next holder knows whether the account is logged in
+ * and whether its Singpass verification prompt was put off with "Remind me later".
+ * The suite has no Singpass verification flow, so an account is never recorded as verified.
+ */
+public class AccountState {
+
+    public enum SingpassStatus {
+        UNKNOWN, DEFERRED
+    }
+
+    public static final AccountState INITIAL = new AccountState(false, SingpassStatus.UNKNOWN);
+
+    private final boolean loggedIn;
+    private final SingpassStatus singpassStatus;
+
+    private AccountState(boolean loggedIn, SingpassStatus singpassStatus) {
+        this.loggedIn = loggedIn;
+        this.singpassStatus = singpassStatus;
+    }
+
+    public boolean isLoggedIn() {
+        return loggedIn;
+    }
+
+    public SingpassStatus getSingpassStatus() {
+        return singpassStatus;
+    }
+
+    public AccountState withLoggedIn(boolean loggedIn) {
+        return new AccountState(loggedIn, singpassStatus);
+    }
+
+    public AccountState withSingpassStatus(SingpassStatus singpassStatus) {
+        return new AccountState(loggedIn, singpassStatus);
+    }
+
+    @Override
+    public String toString() {
+        return "loggedIn=" + loggedIn + ", singpass=" + singpassStatus;
+    }
+}
@@ -0,0 +1,28 @@
+package accounts;
+
+/**
+ * Credentials of one backend test account
+ */
+public class TestAccount {
+
+    private final String username;
+    private final String password;
+
+    public TestAccount(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
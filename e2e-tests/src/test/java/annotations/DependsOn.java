@@ -0,0 +1,24 @@
+package annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that a test only makes sense if other tests of the same class passed on this session.
+ * When an upstream test failed, was aborted or was itself skipped, the annotated test is skipped at once
+ * with the upstream reported as the reason. Upstream tests that have not run yet do not block it,
+ * so ordering is still up to @Order. A name that is not a test of the class fails the annotated test.
+ *
+ * Tests that only need a logged-in app use @RequiresAuthenticatedState instead, so they run on their own.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DependsOn {
+
+    /**
+     * Method names of the upstream tests
+     */
+    String[] value();
+}
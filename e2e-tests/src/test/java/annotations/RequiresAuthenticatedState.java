@@ -0,0 +1,19 @@
+package annotations;
+
+import extensions.AuthenticatedStateExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Starts the annotated test (or every test of the annotated class) from a logged-in app
+ * restored by {@link state.AuthStateManager}, instead of replaying the login flow.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(AuthenticatedStateExtension.class)
+public @interface RequiresAuthenticatedState {
+}
@@ -0,0 +1,31 @@
+package annotations;
+
+import extensions.SmartRetryExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+import pages.BasePage;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs the annotated test (or every test of the annotated class) on the same session when it fails,
+ * after bringing the app back to a checkpoint. Retries are drawn from the run-wide retry.budget.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SmartRetryExtension.class)
+public @interface Retry {
+
+    /**
+     * Maximum retries of one test
+     */
+    int value() default 2;
+
+    /**
+     * Page to restore before retrying. Without one, the app is brought back to the authenticated state for
+     * {@link RequiresAuthenticatedState} tests and reset otherwise.
+     */
+    Class<? extends BasePage> checkpoint() default BasePage.class;
+}
@@ -0,0 +1,26 @@
+package annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how a page object can be opened directly, without stepping through the UI.
+ * Used by {@link navigation.Navigator} when navigation.deepLinks.enabled=true; pages without a route are always
+ * reached through the UI. Only declare routes the app actually registers.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Route {
+
+    /**
+     * Deep link path, resolved against navigation.deepLinkBaseUrl (e.g. "appointment/provider")
+     */
+    String deepLink() default "";
+
+    /**
+     * Android activity to start with the deep link or on its own (e.g. ".MainActivity")
+     */
+    String activity() default "";
+}
@@ -0,0 +1,18 @@
+package annotations;
+
+import config.TestConfig;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restricts a test class to devices of the given platforms; the sharded runner runs it once on each of them.
+ * Classes without it are cross-platform and run once on every platform that has a configured device.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TargetPlatform {
+    TestConfig.Platform[] value();
+}
@@ -4,7 +4,10 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * Configuration manager for test properties
@@ -64,7 +67,19 @@ public class TestConfig {
         String value = properties.getProperty(key);
         return value != null ? Integer.parseInt(value) : defaultValue;
     }
-    
+
+    public List<String> getListProperty(String key, String defaultValue) {
+        return Arrays.stream(getProperty(key, defaultValue).split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = properties.getProperty(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
     // Platform-specific getters
     public Platform getPlatform() {
         String platformStr = getProperty("platform").toUpperCase();
@@ -79,6 +94,26 @@ public class TestConfig {
         return getProperty("appium.serverUrl");
     }
     
+    public boolean isManagedAppiumServer() {
+        return getBooleanProperty("appium.server.managed", false);
+    }
+
+    public int getAppiumServerCount() {
+        return getIntProperty("appium.server.count", 1);
+    }
+
+    public String getAppiumServerCommand() {
+        return getProperty("appium.server.command", null);
+    }
+
+    public int getAppiumServerStartTimeoutSeconds() {
+        return getIntProperty("appium.server.startTimeoutSeconds", 60);
+    }
+
+    public int getAppiumHealthCheckSeconds() {
+        return getIntProperty("appium.server.healthCheckSeconds", 5);
+    }
+
     public int getImplicitWait() {
         return getIntProperty("appium.implicitWait");
     }
@@ -95,6 +130,10 @@ public class TestConfig {
     public String getAndroidApp() {
         return getProperty("android.app");
     }
+
+    public String getAndroidAppPackage() {
+        return getProperty("android.appPackage");
+    }
     
     // iOS specific
     public String getIosPlatformVersion() {
@@ -113,6 +152,15 @@ public class TestConfig {
         return getProperty("ios.app");
     }
     
+    // App install cache
+    public boolean isAppInstallCacheEnabled() {
+        return getBooleanProperty("app.installCache", true);
+    }
+
+    public String getAppInstallCacheFile() {
+        return getProperty("app.installCacheFile", ".test-cache/app-install-cache.properties");
+    }
+
     // Test Credentials
     public String getTestUsername() {
         return getProperty("test.username");
@@ -121,8 +169,211 @@ public class TestConfig {
     public String getTestPassword() {
         return getProperty("test.password");
     }
-    
+
+    // Test account pool
+    public String getAccountsFile() {
+        return getProperty("test.accounts.file", null);
+    }
+
+    public int getAccountLeaseTimeoutMinutes() {
+        return getIntProperty("test.accounts.leaseTimeoutMinutes", 30);
+    }
+
+    public int getAccountAcquireTimeoutSeconds() {
+        return getIntProperty("test.accounts.acquireTimeoutSeconds", 600);
+    }
+
+    // Authenticated state snapshots
+    public AuthStateStrategy getAuthStateStrategy() {
+        String strategyStr = getProperty("state.strategy", AuthStateStrategy.DATA_SNAPSHOT.name()).toUpperCase();
+        try {
+            return AuthStateStrategy.valueOf(strategyStr);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("❌ Invalid state strategy '" + strategyStr + "'. Supported: DATA_SNAPSHOT, NO_RESET");
+        }
+    }
+
+    public List<String> getAuthStatePaths(Platform platform) {
+        String defaultPaths = platform == Platform.ANDROID ? "shared_prefs,app_flutter,files" : "Library/Preferences,Documents";
+        String key = platform == Platform.ANDROID ? "state.android.paths" : "state.ios.paths";
+        return getListProperty(key, defaultPaths);
+    }
+
+    // Deep-link navigation
+    public boolean isDeepLinkNavigationEnabled() {
+        return getBooleanProperty("navigation.deepLinks.enabled", false);
+    }
+
+    public String getDeepLinkBaseUrl() {
+        return getProperty("navigation.deepLinkBaseUrl", null);
+    }
+
+    public int getRouteTimeoutSeconds() {
+        return getIntProperty("navigation.routeTimeoutSeconds", 5);
+    }
+
+    public int getRouteMaxFailures() {
+        return getIntProperty("navigation.routeMaxFailures", 3);
+    }
+
+    // Device pool and scheduling
+    public List<String> getAndroidDeviceUdids() {
+        return getListProperty("android.devices", "");
+    }
+
+    public List<String> getIosDeviceUdids() {
+        return getListProperty("ios.devices", "");
+    }
+
+    public String getTestPackage() {
+        return getProperty("scheduling.testPackage", "tests");
+    }
+
+    public String getTestDurationsFile() {
+        return getProperty("scheduling.durationsFile", ".test-cache/test-durations.properties");
+    }
+
+    public int getDefaultTestDurationSeconds() {
+        return getIntProperty("scheduling.defaultDurationSeconds", 120);
+    }
+
+    // Event log
+    public boolean isVerboseLogging() {
+        return getBooleanProperty("log.verbose", false);
+    }
+
+    public String getEventLogDir() {
+        return getProperty("log.dir", "build/logs");
+    }
+
+    public int getEventLogBufferSize() {
+        return getIntProperty("log.bufferSize", 1024);
+    }
+
+    public int getEventLogFlushIntervalMs() {
+        return getIntProperty("log.flushIntervalMs", 200);
+    }
+
+    // Image template locator
+    public int getTemplateReferenceWidth() {
+        return getIntProperty("template.referenceWidth", 1080);
+    }
+
+    public int getTemplateWorkingWidth() {
+        return getIntProperty("template.workingWidth", 360);
+    }
+
+    public List<String> getTemplateScales() {
+        return getListProperty("template.scales", "0.8,0.9,1.0,1.1,1.25");
+    }
+
+    public double getTemplateThreshold() {
+        return Double.parseDouble(getProperty("template.threshold", "0.8"));
+    }
+
+    // Screen stream
+    public boolean isScreenStreamEnabled() {
+        return getBooleanProperty("stream.enabled", false);
+    }
+
+    public int getScreenStreamFramerate() {
+        return getIntProperty("stream.framerate", 10);
+    }
+
+    public int getScreenStreamScalingFactor() {
+        return getIntProperty("stream.scalingFactor", 50);
+    }
+
+    // Session watchdog
+    public boolean isSessionWatchdogEnabled() {
+        return getBooleanProperty("session.watchdog", true);
+    }
+
+    public int getSessionWatchdogIntervalMs() {
+        return getIntProperty("session.watchdogIntervalMs", 2000);
+    }
+
+    public int getSessionPingTimeoutMs() {
+        return getIntProperty("session.pingTimeoutMs", 3000);
+    }
+
+    public int getSessionMaxMissedPings() {
+        return getIntProperty("session.maxMissedPings", 3);
+    }
+
+    public int getSessionCommandTimeoutSeconds() {
+        return getIntProperty("session.commandTimeoutSeconds", 90);
+    }
+
+    public int getSessionMaxRecoveries() {
+        return getIntProperty("session.maxRecoveries", 1);
+    }
+
+    // Load mode
+    public int getLoadDurationMinutes() {
+        return getIntProperty("load.durationMinutes", 10);
+    }
+
+    public int getLoadIterations() {
+        return getIntProperty("load.iterations", 0);
+    }
+
+    public int getLoadWindowSeconds() {
+        return getIntProperty("load.windowSeconds", 60);
+    }
+
+    public String getLoadReportFile() {
+        return getProperty("load.reportFile", "build/reports/load/load-report.json");
+    }
+
+    // Locator profiler
+    public boolean isLocatorProfilingEnabled() {
+        return getBooleanProperty("locator.profile", false);
+    }
+
+    public boolean isLocatorOptimizationEnabled() {
+        return getBooleanProperty("locator.optimize", false);
+    }
+
+    public int getLocatorProfileSamples() {
+        return getIntProperty("locator.profileSamples", 5);
+    }
+
+    public String getLocatorReportFile() {
+        return getProperty("locator.reportFile", ".test-cache/locators.json");
+    }
+
+    // Test impact selection
+    public boolean isImpactRecordingEnabled() {
+        return getBooleanProperty("impact.record", true);
+    }
+
+    public String getImpactFile() {
+        return getProperty("impact.file", ".test-cache/test-impact.json");
+    }
+
+    public String getImpactBaseRef() {
+        return getProperty("impact.baseRef", "origin/main");
+    }
+
+    // Smart retry
+    public int getRetryBudget() {
+        return getIntProperty("retry.budget", 10);
+    }
+
+    public int getRetryStepAttempts() {
+        return getIntProperty("retry.stepAttempts", 2);
+    }
+
+    public String getRetryReportFile() {
+        return getProperty("retry.reportFile", "build/reports/flakes.json");
+    }
+
     public enum Platform {
         ANDROID, IOS
     }
+
+    public enum AuthStateStrategy {
+        DATA_SNAPSHOT, NO_RESET
+    }
 }
@@ -1,14 +1,14 @@
 package drivers;
 
 import config.TestConfig;
+import impact.ImpactRecorder;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.Platform;
+import org.openqa.selenium.WebDriverException;
 
-import java.net.MalformedURLException;
-import java.net.URI;
 import java.time.Duration;
 
 /**
@@ -26,6 +26,7 @@ public class AndroidDriverManager implements MobileDriver {
     public void initializeDriver() {
         try {
             log.info("🚀 Initializing Android driver...");
+            ImpactRecorder.record();
 
             TestConfig config = TestConfig.getInstance();
             
@@ -34,16 +35,36 @@ public class AndroidDriverManager implements MobileDriver {
                     .setPlatformName(Platform.ANDROID.name())
                     .setPlatformVersion(config.getAndroidPlatformVersion())
                     .setDeviceName(config.getAndroidDeviceName())
-                    .setAutoGrantPermissions(true)
-                    .setApp(config.getAndroidApp());
+                    .setAutoGrantPermissions(true);
 
-            AndroidDriver driver = new AndroidDriver(URI.create(config.getAppiumServerUrl()).toURL(), options);
+            Device device = DeviceContext.get();
+            if (device != null) {
+                options.setUdid(device.getUdid()).setDeviceName(device.getName());
+            }
+
+            SessionEndpoint endpoint = DriverManager.getSessionEndpoint();
+            options.setSystemPort(endpoint.getPorts().getSystemPort())
+                    .setMjpegServerPort(endpoint.getPorts().getMjpegServerPort());
+
+            String deviceKey = device != null ? device.getUdid() : config.getAndroidDeviceName();
+            // Optional: without a package name the installed app cannot be reused, so the build is installed
+            String appPackage = config.getProperty("android.appPackage", null);
+            AndroidDriver driver = AppInstallCache.getInstance().startSession(TestConfig.Platform.ANDROID, deviceKey,
+                    config.getAndroidApp(), appPackage, reuseInstalled -> {
+                        UiAutomator2Options sessionOptions = new UiAutomator2Options(options);
+                        if (reuseInstalled) {
+                            sessionOptions.setAppPackage(appPackage).setNoReset(true);
+                        } else {
+                            sessionOptions.setApp(config.getAndroidApp());
+                        }
+                        return new AndroidDriver(endpoint.getClientConfig(), sessionOptions);
+                    });
             driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
 
             driverThreadLocal.set(driver);
             log.info("✅ Android driver initialized successfully!");
 
-        } catch (MalformedURLException e) {
+        } catch (WebDriverException e) {
             throw new RuntimeException("❌ Failed to initialize Android driver: " + e.getMessage(), e);
         }
     }
@@ -73,6 +94,11 @@ public class AndroidDriverManager implements MobileDriver {
             log.info("✅ Driver quit successfully!");
         }
     }
+
+    @Override
+    public void discardDriver() {
+        driverThreadLocal.remove();
+    }
     
     /**
      * Check if driver is initialized
@@ -81,6 +107,11 @@ public class AndroidDriverManager implements MobileDriver {
     public boolean isDriverInitialized() {
         return driverThreadLocal.get() != null;
     }
+
+    @Override
+    public TestConfig.Platform getPlatform() {
+        return TestConfig.Platform.ANDROID;
+    }
     
     // Static convenience methods for backward compatibility
     public static AndroidDriver getAndroidDriver() {
@@ -0,0 +1,284 @@
+package drivers;
+
+import config.TestConfig;
+import helpers.AppLifecycleHelper;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.InteractsWithApps;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Avoids pushing and installing the app build for every session. Records the SHA-256 of the build installed on
+ * each device (a .app bundle is hashed as a directory tree) in app.installCacheFile. When the configured build
+ * has the same hash, the session is started by package / bundle ID with noReset, and the app is then reset
+ * explicitly so tests still start from a clean, logged-out app. If the app turns out not to be installed, or the
+ * session cannot start that way, the build is installed as usual.
+ *
+ * Builds given as URLs cannot be hashed and are always installed, as are builds for real iOS devices, where
+ * XCUITest cannot clear app data. The time saved per run is logged at exit.
+ *
+ * Usage:
+ * - AppInstallCache.getInstance().startSession(platform, deviceKey, appPath, appId, reuseInstalled -> createDriver(...));
+ */
+@Slf4j
+public class AppInstallCache {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String INSTALL_MS_SUFFIX = ".installMs";
+    private static AppInstallCache instance;
+
+    private final Path file;
+    private final boolean enabled;
+    private final Properties installed = new Properties();
+    private final Map<String, HashedBuild> hashes = new ConcurrentHashMap<>();
+    private final AtomicInteger installs = new AtomicInteger();
+    private final AtomicInteger skippedInstalls = new AtomicInteger();
+    private final AtomicLong savedMs = new AtomicLong();
+    private final AtomicBoolean warnedMissingAppId = new AtomicBoolean();
+
+    AppInstallCache(Path file, boolean enabled) {
+        this.file = file;
+        this.enabled = enabled;
+        if (enabled) {
+            load();
+            Runtime.getRuntime().addShutdownHook(new Thread(this::logSummary, "app-install-cache"));
+        }
+    }
+
+    public static AppInstallCache getInstance() {
+        if (instance == null) {
+            synchronized (AppInstallCache.class) {
+                if (instance == null) {
+                    TestConfig config = TestConfig.getInstance();
+                    instance = new AppInstallCache(Paths.get(config.getAppInstallCacheFile()), config.isAppInstallCacheEnabled());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Start a session, reusing the build already installed on the device when it is unchanged
+     * @param deviceKey UDID or device name the build is installed on
+     * @param appPath configured app build (.apk, .ipa or .app)
+     * @param appId package name (Android) or bundle ID (iOS); null if not configured, the build is then always installed
+     * @param createSession creates the session; given true it must leave out the app capability and set noReset
+     */
+    public <D extends AppiumDriver> D startSession(TestConfig.Platform platform, String deviceKey, String appPath, String appId,
+                                                   Function<Boolean, D> createSession) {
+        if (!enabled) {
+            return createSession.apply(false);
+        }
+        if (appId == null) {
+            if (warnedMissingAppId.compareAndSet(false, true)) {
+                log.warn("⚠️ No {} app ID configured, installing the build without the install cache", platform);
+            }
+            return createSession.apply(false);
+        }
+        String key = platform + ":" + deviceKey + ":" + appId;
+        String hash = hashOf(appPath);
+
+        if (hash != null && hash.equals(installedHash(key))) {
+            long start = System.currentTimeMillis();
+            D driver = null;
+            try {
+                driver = createSession.apply(true);
+                if (((InteractsWithApps) driver).isAppInstalled(appId)) {
+                    resetApp(driver, platform);
+                    recordSkip(key, System.currentTimeMillis() - start);
+                    return driver;
+                }
+                log.warn("⚠️ {} is no longer installed on {}, installing the build again", appId, deviceKey);
+            } catch (WebDriverException e) {
+                log.warn("⚠️ Could not start {} on {} without installing it: {}", appId, deviceKey, e.getMessage());
+            }
+            quitQuietly(driver);
+            forget(key);
+        }
+
+        long start = System.currentTimeMillis();
+        D driver = createSession.apply(false);
+        if (hash != null) {
+            recordInstall(key, hash, System.currentTimeMillis() - start);
+        }
+        return driver;
+    }
+
+    /**
+     * Bring the reused app to the state a fresh install starts in
+     */
+    private static void resetApp(AppiumDriver driver, TestConfig.Platform platform) {
+        new AppLifecycleHelper(driver, platform).resetApp();
+    }
+
+    /**
+     * Hash an app build once per JVM, again only if its size or modification time changes
+     * @return hex SHA-256, or null if the build is not a local file or directory
+     */
+    String hashOf(String appPath) {
+        Path path;
+        try {
+            if (appPath == null || appPath.contains("://")) {
+                return null;
+            }
+            path = Paths.get(appPath);
+            if (!Files.exists(path)) {
+                return null;
+            }
+            String version = Files.size(path) + "@" + Files.getLastModifiedTime(path).toMillis();
+            HashedBuild known = hashes.get(appPath);
+            if (known != null && known.version.equals(version)) {
+                return known.hash;
+            }
+            long start = System.currentTimeMillis();
+            String hash = Files.isDirectory(path) ? hashDirectory(path) : toHex(digest(path, newDigest()).digest());
+            hashes.put(appPath, new HashedBuild(version, hash));
+            log.info("#️⃣ Hashed {} in {} ms", path.getFileName(), System.currentTimeMillis() - start);
+            return hash;
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ Could not hash app build {}: {}", appPath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Hash relative paths and contents in a stable order, so the same bundle gives the same hash anywhere
+     */
+    private static String hashDirectory(Path root) throws IOException {
+        MessageDigest digest = newDigest();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            digest.update(root.relativize(file).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest(file, digest);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest digest(Path file, MessageDigest digest) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("❌ SHA-256 not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    synchronized String installedHash(String key) {
+        return installed.getProperty(key);
+    }
+
+    private synchronized void recordInstall(String key, String hash, long sessionMs) {
+        installs.incrementAndGet();
+        installed.setProperty(key, hash);
+        installed.setProperty(key + INSTALL_MS_SUFFIX, String.valueOf(sessionMs));
+        save();
+    }
+
+    private synchronized void recordSkip(String key, long sessionMs) {
+        skippedInstalls.incrementAndGet();
+        long installMs = Long.parseLong(installed.getProperty(key + INSTALL_MS_SUFFIX, "0"));
+        long saved = Math.max(0, installMs - sessionMs);
+        savedMs.addAndGet(saved);
+        log.info("📦 Reused the installed build on {}, session ready in {} ms (~{} ms saved)", key, sessionMs, saved);
+    }
+
+    private synchronized void forget(String key) {
+        installed.remove(key);
+        installed.remove(key + INSTALL_MS_SUFFIX);
+        save();
+    }
+
+    private void save() {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                installed.store(out, "SHA-256 of the app build installed per device");
+            }
+        } catch (IOException e) {
+            log.error("❌ Failed to save app install cache to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            installed.load(in);
+        } catch (IOException e) {
+            log.warn("⚠️ Failed to load app install cache from {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void logSummary() {
+        if (installs.get() + skippedInstalls.get() > 0) {
+            log.info("📦 App install cache: {} sessions reused the installed build (~{} s saved), {} installs",
+                    skippedInstalls.get(), savedMs.get() / 1000, installs.get());
+        }
+    }
+
+    private static void quitQuietly(AppiumDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            log.warn("⚠️ Failed to end session: {}", e.getMessage());
+        }
+    }
+
+    private static class HashedBuild {
+        private final String version;
+        private final String hash;
+
+        HashedBuild(String version, String hash) {
+            this.version = version;
+            this.hash = hash;
+        }
+    }
+}
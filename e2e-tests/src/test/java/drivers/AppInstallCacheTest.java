@@ -0,0 +1,106 @@
+package drivers;
+
+import config.TestConfig;
+import io.appium.java_client.AppiumDriver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Covers the paths that install the build; reusing it needs a live session
+ */
+class AppInstallCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void hashesFilesAndBundleDirectoriesStably() throws IOException {
+        AppInstallCache cache = new AppInstallCache(dir.resolve("cache.properties"), false);
+        Path apk = write(dir.resolve("app.apk"), "apk");
+        Path bundle = Files.createDirectories(dir.resolve("Runner.app"));
+        write(bundle.resolve("Runner"), "binary");
+        write(Files.createDirectories(bundle.resolve("Frameworks")).resolve("Flutter"), "framework");
+
+        String apkHash = cache.hashOf(apk.toString());
+        String bundleHash = cache.hashOf(bundle.toString());
+
+        assertEquals(64, apkHash.length());
+        assertEquals(apkHash, new AppInstallCache(dir.resolve("other.properties"), false).hashOf(apk.toString()));
+        assertEquals(bundleHash, new AppInstallCache(dir.resolve("other.properties"), false).hashOf(bundle.toString()));
+
+        write(bundle.resolve("Frameworks").resolve("Flutter"), "changed framework");
+        assertNotEquals(bundleHash, new AppInstallCache(dir.resolve("other.properties"), false).hashOf(bundle.toString()));
+    }
+
+    @Test
+    void doesNotHashRemoteOrMissingBuilds() {
+        AppInstallCache cache = new AppInstallCache(dir.resolve("cache.properties"), false);
+
+        assertNull(cache.hashOf("https://example.com/app.apk"));
+        assertNull(cache.hashOf(dir.resolve("missing.apk").toString()));
+        assertNull(cache.hashOf(null));
+    }
+
+    @Test
+    void installsAndRecordsTheHashOfALocalBuild() throws IOException {
+        Path file = dir.resolve("cache.properties");
+        Path apk = write(dir.resolve("app.apk"), "apk");
+        List<Boolean> sessions = new ArrayList<>();
+
+        AppInstallCache cache = new AppInstallCache(file, true);
+        startSession(cache, apk.toString(), "com.example.app", sessions);
+
+        assertEquals(List.of(false), sessions);
+        String key = TestConfig.Platform.ANDROID + ":emulator-5554:com.example.app";
+        assertEquals(cache.hashOf(apk.toString()), new AppInstallCache(file, true).installedHash(key));
+    }
+
+    @Test
+    void installsWithoutRecordingWhenTheAppIdIsMissing() throws IOException {
+        Path file = dir.resolve("cache.properties");
+        Path apk = write(dir.resolve("app.apk"), "apk");
+        List<Boolean> sessions = new ArrayList<>();
+
+        startSession(new AppInstallCache(file, true), apk.toString(), null, sessions);
+        startSession(new AppInstallCache(file, true), apk.toString(), null, sessions);
+
+        assertEquals(List.of(false, false), sessions);
+        assertEquals(false, Files.exists(file));
+    }
+
+    @Test
+    void installsWhenDisabled() throws IOException {
+        Path file = dir.resolve("cache.properties");
+        List<Boolean> sessions = new ArrayList<>();
+
+        startSession(new AppInstallCache(file, false), write(dir.resolve("app.apk"), "apk").toString(), "com.example.app", sessions);
+
+        assertEquals(List.of(false), sessions);
+        assertEquals(false, Files.exists(file));
+    }
+
+    private static void startSession(AppInstallCache cache, String appPath, String appId, List<Boolean> sessions) {
+        AppiumDriver driver = cache.startSession(TestConfig.Platform.ANDROID, "emulator-5554", appPath, appId, reuseInstalled -> {
+            sessions.add(reuseInstalled);
+            return null;
+        });
+        assertNull(driver);
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        assertNotNull(file.getParent());
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
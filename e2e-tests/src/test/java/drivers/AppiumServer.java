@@ -0,0 +1,120 @@
+package drivers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One supervised Appium server process on a fixed port
+ */
+@Slf4j
+public class AppiumServer {
+
+    private static final Duration STATUS_TIMEOUT = Duration.ofSeconds(2);
+    private static final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(STATUS_TIMEOUT).build();
+
+    private final int port;
+    private final ServerLauncher launcher;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicInteger failedChecks = new AtomicInteger();
+    private final AtomicInteger restarts = new AtomicInteger();
+    private volatile ServerProcess process;
+
+    public AppiumServer(int port, ServerLauncher launcher) {
+        this.port = port;
+        this.launcher = launcher;
+    }
+
+    public synchronized void start() {
+        log.info("🚀 Starting Appium server on port {}...", port);
+        process = launcher.start(port);
+        failedChecks.set(0);
+        log.info("✅ Appium server ready at {}", process.getUrl());
+    }
+
+    public synchronized void stop() {
+        if (process != null) {
+            process.stop();
+            process = null;
+        }
+    }
+
+    /**
+     * Replace a crashed or unresponsive process with a new one on the same port
+     */
+    public synchronized void restart() {
+        log.warn("⚠️ Restarting Appium server on port {} ({} active sessions will be lost)", port, activeSessions.get());
+        stop();
+        start();
+        restarts.incrementAndGet();
+    }
+
+    /**
+     * Check the process and its /status endpoint
+     * @return true if the server is alive and answering
+     */
+    public boolean checkHealth() {
+        ServerProcess current = process;
+        boolean healthy = current != null && current.isRunning() && isResponding(current.getUrl());
+        if (healthy) {
+            failedChecks.set(0);
+        } else {
+            failedChecks.incrementAndGet();
+        }
+        return healthy;
+    }
+
+    public URL getUrl() {
+        ServerProcess current = process;
+        if (current == null) {
+            throw new RuntimeException("❌ Appium server on port " + port + " is not running");
+        }
+        return current.getUrl();
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public boolean isRunning() {
+        ServerProcess current = process;
+        return current != null && current.isRunning();
+    }
+
+    public int getFailedChecks() {
+        return failedChecks.get();
+    }
+
+    public int getRestarts() {
+        return restarts.get();
+    }
+
+    AtomicInteger activeSessions() {
+        return activeSessions;
+    }
+
+    /**
+     * Check if an Appium server answers GET /status at the given base URL
+     */
+    public static boolean isResponding(URL baseUrl) {
+        String base = baseUrl.toString().replaceAll("/+$", "");
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/status"))
+                    .timeout(STATUS_TIMEOUT)
+                    .GET()
+                    .build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package drivers;
+
+import config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts and supervises appium.server.count local Appium servers so sessions are spread over several
+ * processes instead of queueing on one externally started server.
+ * Each server gets a free port; a background health check restarts servers whose process died
+ * or whose /status endpoint stopped answering.
+ *
+ * Servers are launched with appium.server.command if set (use "{port}" as placeholder), otherwise through
+ * AppiumDriverLocalService. Call {@link #setLauncher(ServerLauncher)} before first use to plug in another launcher.
+ *
+ * Usage:
+ * - AppiumServer server = AppiumServerPool.getInstance().lease(); // Least busy server
+ * - AppiumServerPool.getInstance().release(server); // When the session ends
+ */
+@Slf4j
+public class AppiumServerPool {
+
+    private static final int UNHEALTHY_CHECKS_BEFORE_RESTART = 2;
+    private static volatile ServerLauncher launcherOverride;
+    private static AppiumServerPool instance;
+
+    private final List<AppiumServer> servers = new ArrayList<>();
+    private final ScheduledExecutorService healthChecker;
+
+    AppiumServerPool(ServerLauncher launcher, int count, int healthCheckSeconds) {
+        try {
+            for (int i = 0; i < count; i++) {
+                servers.add(new AppiumServer(PortAllocator.allocate(4723, 4823), launcher));
+            }
+            CompletableFuture.allOf(servers.stream()
+                            .map(server -> CompletableFuture.runAsync(server::start))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (RuntimeException e) {
+            log.error("❌ Failed to start {} Appium servers, stopping the ones that started", count);
+            stopServers();
+            throw e;
+        }
+
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "appium-server-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkServers, healthCheckSeconds, healthCheckSeconds, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "appium-server-shutdown"));
+    }
+
+    /**
+     * Check if sessions should use managed servers instead of appium.serverUrl
+     */
+    public static boolean isEnabled() {
+        return TestConfig.getInstance().isManagedAppiumServer();
+    }
+
+    public static AppiumServerPool getInstance() {
+        if (instance == null) {
+            synchronized (AppiumServerPool.class) {
+                if (instance == null) {
+                    TestConfig config = TestConfig.getInstance();
+                    ServerLauncher launcher = launcherOverride != null ? launcherOverride : defaultLauncher(config);
+                    instance = new AppiumServerPool(launcher, config.getAppiumServerCount(), config.getAppiumHealthCheckSeconds());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Replace the launcher used when the pool is first created
+     */
+    public static void setLauncher(ServerLauncher launcher) {
+        launcherOverride = launcher;
+    }
+
+    /**
+     * Lease the running server with the fewest active sessions. Choosing and counting happen under one lock
+     * so concurrent leases spread evenly.
+     */
+    public synchronized AppiumServer lease() {
+        AppiumServer server = servers.stream()
+                .filter(AppiumServer::isRunning)
+                .min(Comparator.comparingInt(candidate -> candidate.activeSessions().get()))
+                .orElseThrow(() -> new RuntimeException("❌ No managed Appium server is running"));
+        server.activeSessions().incrementAndGet();
+        return server;
+    }
+
+    public synchronized void release(AppiumServer server) {
+        server.activeSessions().decrementAndGet();
+    }
+
+    public List<AppiumServer> getServers() {
+        return List.copyOf(servers);
+    }
+
+    private void checkServers() {
+        for (AppiumServer server : servers) {
+            try {
+                if (!server.checkHealth()
+                        && (!server.isRunning() || server.getFailedChecks() >= UNHEALTHY_CHECKS_BEFORE_RESTART)) {
+                    server.restart();
+                }
+            } catch (Exception e) {
+                log.error("❌ Failed to restart Appium server on port {}: {}", server.getPort(), e.getMessage());
+            }
+        }
+    }
+
+    void shutdown() {
+        healthChecker.shutdownNow();
+        stopServers();
+    }
+
+    private void stopServers() {
+        for (AppiumServer server : servers) {
+            try {
+                server.stop();
+                PortAllocator.release(server.getPort());
+            } catch (Exception e) {
+                log.error("❌ Failed to stop Appium server on port {}: {}", server.getPort(), e.getMessage());
+            }
+        }
+    }
+
+    private static ServerLauncher defaultLauncher(TestConfig config) {
+        File logDir = new File(config.getEventLogDir());
+        String command = config.getAppiumServerCommand();
+        if (command != null && !command.isBlank()) {
+            return new CommandServerLauncher(command, logDir, Duration.ofSeconds(config.getAppiumServerStartTimeoutSeconds()));
+        }
+        return new AppiumServiceLauncher(logDir);
+    }
+}
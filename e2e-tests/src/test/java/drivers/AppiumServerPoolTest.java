@@ -0,0 +1,129 @@
+package drivers;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts stub servers (a single-file Java program answering GET /status) through {@link CommandServerLauncher}
+ */
+class AppiumServerPoolTest {
+
+    private static final String STUB_SERVER = String.join("\n",
+            "import com.sun.net.httpserver.HttpServer;",
+            "import java.net.InetSocketAddress;",
+            "public class StubServer {",
+            "    public static void main(String[] args) throws Exception {",
+            "        if (args.length > 1) {",
+            "            System.exit(1);",
+            "        }",
+            "        HttpServer server = HttpServer.create(new InetSocketAddress(\"127.0.0.1\", Integer.parseInt(args[0])), 0);",
+            "        server.createContext(\"/status\", exchange -> {",
+            "            exchange.sendResponseHeaders(200, -1);",
+            "            exchange.close();",
+            "        });",
+            "        server.start();",
+            "    }",
+            "}");
+
+    @TempDir
+    static Path dir;
+    private static String javaCommand;
+
+    @BeforeAll
+    static void writeStubServer() throws IOException {
+        Path source = dir.resolve("StubServer.java");
+        Files.write(source, STUB_SERVER.getBytes(StandardCharsets.UTF_8));
+        String java = ProcessHandle.current().info().command().orElse("java");
+        javaCommand = java + " " + source;
+    }
+
+    @Test
+    void startsServersAndLeasesEvenlyUnderContention() throws Exception {
+        AppiumServerPool pool = new AppiumServerPool(launcher(javaCommand + " {port}"), 2, 3600);
+        try {
+            assertEquals(2, pool.getServers().size());
+            for (AppiumServer server : pool.getServers()) {
+                assertTrue(server.checkHealth(), "server on port " + server.getPort() + " should answer /status");
+            }
+
+            int threads = 8;
+            int leasesPerThread = 50;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < leasesPerThread; j++) {
+                        pool.lease();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+            List<Integer> counts = new ArrayList<>();
+            pool.getServers().forEach(server -> counts.add(server.activeSessions().get()));
+            assertEquals(threads * leasesPerThread, counts.get(0) + counts.get(1));
+            assertEquals(counts.get(0), counts.get(1), "leases should be spread evenly: " + counts);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void stopsStartedServersAndReleasesPortsWhenOneFailsToStart() {
+        CommandServerLauncher working = launcher(javaCommand + " {port}");
+        CommandServerLauncher failing = launcher(javaCommand + " {port} fail");
+        AtomicInteger launches = new AtomicInteger();
+        Set<Integer> ports = ConcurrentHashMap.newKeySet();
+        List<URL> urls = new ArrayList<>();
+        ServerLauncher launcher = port -> {
+            ports.add(port);
+            ServerProcess process = (launches.incrementAndGet() == 3 ? failing : working).start(port);
+            synchronized (urls) {
+                urls.add(process.getUrl());
+            }
+            return process;
+        };
+
+        assertThrows(RuntimeException.class, () -> new AppiumServerPool(launcher, 3, 3600));
+
+        assertEquals(3, ports.size());
+        assertEquals(2, urls.size());
+        for (URL url : urls) {
+            assertFalse(AppiumServer.isResponding(url), url + " should have been stopped");
+        }
+        for (int port : ports) {
+            assertFalse(PortAllocator.isReserved(port), "port " + port + " should have been released");
+        }
+    }
+
+    private static CommandServerLauncher launcher(String command) {
+        return new CommandServerLauncher(command, new File(dir.toFile(), "logs"), Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,48 @@
+package drivers;
+
+import io.appium.java_client.service.local.AppiumDriverLocalService;
+import io.appium.java_client.service.local.AppiumServiceBuilder;
+import io.appium.java_client.service.local.flags.GeneralServerFlag;
+
+import java.io.File;
+import java.net.URL;
+
+/**
+ * Launches Appium through the java-client's {@link AppiumDriverLocalService} (requires appium on the PATH)
+ */
+public class AppiumServiceLauncher implements ServerLauncher {
+
+    private final File logDir;
+
+    public AppiumServiceLauncher(File logDir) {
+        this.logDir = logDir;
+    }
+
+    @Override
+    public ServerProcess start(int port) {
+        logDir.mkdirs();
+        AppiumDriverLocalService service = AppiumDriverLocalService.buildService(new AppiumServiceBuilder()
+                .withIPAddress("127.0.0.1")
+                .usingPort(port)
+                .withArgument(GeneralServerFlag.SESSION_OVERRIDE)
+                .withLogFile(new File(logDir, "appium-" + port + ".log")));
+        service.start();
+
+        return new ServerProcess() {
+            @Override
+            public URL getUrl() {
+                return service.getUrl();
+            }
+
+            @Override
+            public boolean isRunning() {
+                return service.isRunning();
+            }
+
+            @Override
+            public void stop() {
+                service.stop();
+            }
+        };
+    }
+}
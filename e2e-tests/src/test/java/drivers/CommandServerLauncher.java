@@ -0,0 +1,101 @@
+package drivers;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Launches a server from a command line, replacing "{port}" in every argument.
+ * Used for custom Appium installations and for stub executables standing in for Appium.
+ *
+ * Usage:
+ * - new CommandServerLauncher("appium --port {port} --base-path /", logDir, Duration.ofSeconds(60))
+ */
+public class CommandServerLauncher implements ServerLauncher {
+
+    private final List<String> command;
+    private final File logDir;
+    private final Duration startTimeout;
+
+    public CommandServerLauncher(String command, File logDir, Duration startTimeout) {
+        this.command = Arrays.asList(command.trim().split("\\s+"));
+        this.logDir = logDir;
+        this.startTimeout = startTimeout;
+    }
+
+    @Override
+    public ServerProcess start(int port) {
+        List<String> args = command.stream()
+                .map(arg -> arg.replace("{port}", String.valueOf(port)))
+                .collect(Collectors.toList());
+        URL url = toUrl(port);
+        Process process;
+        try {
+            logDir.mkdirs();
+            process = new ProcessBuilder(args)
+                    .redirectErrorStream(true)
+                    .redirectOutput(new File(logDir, "appium-" + port + ".log"))
+                    .start();
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to launch server '" + String.join(" ", args) + "': " + e.getMessage(), e);
+        }
+
+        long deadline = System.nanoTime() + startTimeout.toNanos();
+        while (!AppiumServer.isResponding(url)) {
+            if (!process.isAlive() || System.nanoTime() > deadline) {
+                process.destroyForcibly();
+                throw new RuntimeException("❌ Server on port " + port + " did not become ready within " + startTimeout.getSeconds() + "s");
+            }
+            sleep(250);
+        }
+
+        return new ServerProcess() {
+            @Override
+            public URL getUrl() {
+                return url;
+            }
+
+            @Override
+            public boolean isRunning() {
+                return process.isAlive();
+            }
+
+            @Override
+            public void stop() {
+                process.destroy();
+                try {
+                    if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    }
+                } catch (InterruptedException e) {
+                    process.destroyForcibly();
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    private static URL toUrl(int port) {
+        try {
+            return URI.create("http://127.0.0.1:" + port).toURL();
+        } catch (MalformedURLException e) {
+            throw new RuntimeException("❌ Invalid server URL for port " + port, e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("❌ Interrupted while waiting for server start", e);
+        }
+    }
+}
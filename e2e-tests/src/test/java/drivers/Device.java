@@ -0,0 +1,50 @@
+package drivers;
+
+import config.TestConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A device (emulator, simulator or real device) that a worker drives
+ */
+public class Device {
+
+    private final TestConfig.Platform platform;
+    private final String udid;
+    private final String name;
+
+    public Device(TestConfig.Platform platform, String udid, String name) {
+        this.platform = platform;
+        this.udid = udid;
+        this.name = name;
+    }
+
+    /**
+     * Get the devices listed in android.devices and ios.devices
+     */
+    public static List<Device> configuredDevices() {
+        TestConfig config = TestConfig.getInstance();
+        List<Device> devices = new ArrayList<>();
+        config.getAndroidDeviceUdids().forEach(udid -> devices.add(new Device(TestConfig.Platform.ANDROID, udid, udid)));
+        config.getIosDeviceUdids().forEach(udid -> devices.add(new Device(TestConfig.Platform.IOS, udid, udid)));
+        return devices;
+    }
+
+    public TestConfig.Platform getPlatform() {
+        return platform;
+    }
+
+    public String getUdid() {
+        return udid;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return platform + " " + (name.equals(udid) ? udid : name + " (" + udid + ")");
+    }
+}
@@ -0,0 +1,45 @@
+package drivers;
+
+/**
+ * Binds the current thread to a specific device.
+ * When no device is bound, driver managers fall back to the device name from configuration.
+ */
+public class DeviceContext {
+
+    private static final ThreadLocal<Device> deviceThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> failureThreadLocal = new ThreadLocal<>();
+
+    public static void set(Device device) {
+        deviceThreadLocal.set(device);
+    }
+
+    /**
+     * Get the device bound to the current thread
+     * @return bound device, or null if none
+     */
+    public static Device get() {
+        return deviceThreadLocal.get();
+    }
+
+    public static void clear() {
+        deviceThreadLocal.remove();
+        failureThreadLocal.remove();
+    }
+
+    /**
+     * Report that the bound device can no longer run sessions, e.g. a new session could not be created
+     */
+    public static void markFailed(String reason) {
+        failureThreadLocal.set(reason);
+    }
+
+    /**
+     * Get and clear the failure reported for the bound device
+     * @return reason, or null if the device is healthy
+     */
+    public static String takeFailure() {
+        String reason = failureThreadLocal.get();
+        failureThreadLocal.remove();
+        return reason;
+    }
+}
@@ -2,12 +2,19 @@ package drivers;
 
 import config.TestConfig;
 import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.HasSettings;
 import lombok.extern.slf4j.Slf4j;
+import logging.EventLog;
+import streaming.ScreenStream;
+
+import java.net.URI;
+import java.net.URL;
 
 /**
  * DriverManager is a utility class responsible for managing the lifecycle of the WebDriver instances.
  * It provides methods to initialize, retrieve, and quit the driver.
  * This class supports multiple platforms such as Android and iOS.
+ * The platform is resolved per thread, so Android and iOS sessions can run side by side in one JVM.
  * 
  * Usage:
  * - DriverManager.initializeDriver(); // Initializes driver based on config
@@ -18,14 +25,22 @@ import lombok.extern.slf4j.Slf4j;
 public class DriverManager {
     
     private static final ThreadLocal<MobileDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<SessionEndpoint> endpointThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<ScreenStream> screenStreamThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<SessionWatchdog> watchdogThreadLocal = new ThreadLocal<>();
     
     /**
-     * Initialize driver based on platform configuration
+     * Initialize driver for the platform of the thread's device, or the configured platform
      */
     public static void initializeDriver() {
-        TestConfig config = TestConfig.getInstance();
-        TestConfig.Platform platform = config.getPlatform();
-        
+        initializeDriver(resolvePlatform());
+    }
+
+    /**
+     * Initialize driver for a specific platform
+     * @param platform platform of the session to create on the current thread
+     */
+    public static void initializeDriver(TestConfig.Platform platform) {
         log.info("🚀 Initializing driver for platform: {}", platform);
         
         MobileDriver mobileDriver;
@@ -40,8 +55,25 @@ public class DriverManager {
                 throw new RuntimeException("❌ Unsupported platform: " + platform);
         }
         
-        mobileDriver.initializeDriver();
+        SessionEndpoint endpoint = SessionEndpoint.allocate(platform);
+        endpointThreadLocal.set(endpoint);
+        log.info("🔌 Session endpoint: {}", endpoint);
+        try {
+            mobileDriver.initializeDriver();
+        } catch (RuntimeException e) {
+            endpointThreadLocal.remove();
+            endpoint.release();
+            throw e;
+        }
         driverThreadLocal.set(mobileDriver);
+        String sessionId = String.valueOf(mobileDriver.getDriver().getSessionId());
+        EventLog.bindSession(sessionId);
+        if (TestConfig.getInstance().isSessionWatchdogEnabled()) {
+            watchdogThreadLocal.set(SessionWatchdog.start(endpoint.getServerUrl(), sessionId));
+        }
+        if (TestConfig.getInstance().isScreenStreamEnabled()) {
+            startScreenStream(mobileDriver.getDriver(), endpoint);
+        }
         
         log.info("✅ Driver initialized successfully for platform: {}", platform);
     }
@@ -65,12 +97,104 @@ public class DriverManager {
         MobileDriver mobileDriver = driverThreadLocal.get();
         if (mobileDriver != null) {
             log.info("🧹 Quitting driver...");
-            mobileDriver.quitDriver();
-            driverThreadLocal.remove();
+            ScreenStream stream = screenStreamThreadLocal.get();
+            if (stream != null) {
+                stream.close();
+                screenStreamThreadLocal.remove();
+            }
+            SessionWatchdog watchdog = watchdogThreadLocal.get();
+            watchdogThreadLocal.remove();
+            try {
+                if (watchdog != null) {
+                    watchdog.stop();
+                }
+                if (watchdog != null && watchdog.isLost()) {
+                    // Ending a dead session only waits for the server to time out
+                    log.info("🪦 Session already lost, skipping remote quit");
+                    mobileDriver.discardDriver();
+                } else {
+                    mobileDriver.quitDriver();
+                }
+            } finally {
+                driverThreadLocal.remove();
+                EventLog.bindSession(null);
+                SessionEndpoint endpoint = endpointThreadLocal.get();
+                if (endpoint != null) {
+                    endpointThreadLocal.remove();
+                    endpoint.release();
+                }
+            }
             log.info("✅ Driver quit successfully!");
         }
     }
     
+    /**
+     * Get the watchdog of the current thread's session
+     * @return watchdog, or null when session.watchdog is off or no session exists
+     */
+    public static SessionWatchdog getSessionWatchdog() {
+        return watchdogThreadLocal.get();
+    }
+
+    /**
+     * Check if the current thread's session is gone, probing it once if the watchdog has not decided yet
+     */
+    public static boolean isSessionLost() {
+        SessionWatchdog watchdog = watchdogThreadLocal.get();
+        if (watchdog == null) {
+            return false;
+        }
+        return watchdog.isLost() || (!watchdog.probe() && watchdog.isLost());
+    }
+
+    /**
+     * Replace the current thread's session with a new one on the same platform and device
+     */
+    public static void recoverSession() {
+        TestConfig.Platform platform = getCurrentPlatform();
+        log.warn("🔁 Recreating {} session...", platform);
+        try {
+            quitDriver();
+        } catch (Exception e) {
+            log.warn("⚠️ Ignoring failure to quit lost session: {}", e.getMessage());
+        }
+        initializeDriver(platform);
+    }
+
+    /**
+     * Get the live screen stream of the current thread's session
+     * @return stream, or null when stream.enabled is off or the stream could not be started
+     */
+    public static ScreenStream getScreenStream() {
+        return screenStreamThreadLocal.get();
+    }
+
+    private static void startScreenStream(AppiumDriver driver, SessionEndpoint endpoint) {
+        TestConfig config = TestConfig.getInstance();
+        try {
+            ((HasSettings) driver).setSetting("mjpegServerFramerate", config.getScreenStreamFramerate());
+            ((HasSettings) driver).setSetting("mjpegScalingFactor", config.getScreenStreamScalingFactor());
+            URL serverUrl = endpoint.getServerUrl();
+            URL streamUrl = new URI(serverUrl.getProtocol(), null, serverUrl.getHost(),
+                    endpoint.getPorts().getMjpegServerPort(), "/", null, null).toURL();
+            screenStreamThreadLocal.set(ScreenStream.open(streamUrl));
+        } catch (Exception e) {
+            log.warn("⚠️ Screen stream unavailable, visual checks fall back to screenshots: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get the server and ports of the current thread's session
+     * @return endpoint allocated by initializeDriver()
+     */
+    public static SessionEndpoint getSessionEndpoint() {
+        SessionEndpoint endpoint = endpointThreadLocal.get();
+        if (endpoint == null) {
+            throw new RuntimeException("❌ No session endpoint allocated! Call initializeDriver() first.");
+        }
+        return endpoint;
+    }
+    
     /**
      * Check if driver is initialized
      * @return true if driver is available
@@ -80,11 +204,38 @@ public class DriverManager {
         return mobileDriver != null && mobileDriver.isDriverInitialized();
     }
     
+    /**
+     * Get a key identifying the device the current session runs on
+     * @return platform and device UDID (or configured device name), e.g. "ANDROID:emulator-5554"
+     */
+    public static String getDeviceKey() {
+        TestConfig.Platform platform = getCurrentPlatform();
+        Device device = DeviceContext.get();
+        if (device != null) {
+            return platform + ":" + device.getUdid();
+        }
+        TestConfig config = TestConfig.getInstance();
+        String deviceName = platform == TestConfig.Platform.ANDROID ? config.getAndroidDeviceName() : config.getIosDeviceName();
+        return platform + ":" + deviceName;
+    }
+    
     /**
      * Get current platform
-     * @return current platform from configuration
+     * @return platform of the current thread's session, falling back to its device and then to configuration
      */
     public static TestConfig.Platform getCurrentPlatform() {
+        MobileDriver mobileDriver = driverThreadLocal.get();
+        if (mobileDriver != null) {
+            return mobileDriver.getPlatform();
+        }
+        return resolvePlatform();
+    }
+
+    private static TestConfig.Platform resolvePlatform() {
+        Device device = DeviceContext.get();
+        if (device != null) {
+            return device.getPlatform();
+        }
         return TestConfig.getInstance().getPlatform();
     }
 }
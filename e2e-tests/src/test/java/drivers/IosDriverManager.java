@@ -1,15 +1,17 @@
 package drivers;
 
 import config.TestConfig;
+import impact.ImpactRecorder;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.options.XCUITestOptions;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.Platform;
+import org.openqa.selenium.WebDriverException;
 
-import java.net.MalformedURLException;
-import java.net.URI;
 import java.time.Duration;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * Manages iOS driver lifecycle
@@ -18,6 +20,8 @@ import java.time.Duration;
 public class IosDriverManager implements MobileDriver {
 
     private static final ThreadLocal<IOSDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final Pattern SIMULATOR_UDID = Pattern.compile(
+            "[0-9A-F]{8}-[0-9A-F]{4}-[0-9A-F]{4}-[0-9A-F]{4}-[0-9A-F]{12}", Pattern.CASE_INSENSITIVE);
 
     /**
      * Initialize Android driver with UiAutomator2 options
@@ -26,6 +30,7 @@ public class IosDriverManager implements MobileDriver {
     public void initializeDriver() {
         try {
             log.info("🚀 Initializing iOS driver...");
+            ImpactRecorder.record();
 
             TestConfig config = TestConfig.getInstance();
             
@@ -35,20 +40,53 @@ public class IosDriverManager implements MobileDriver {
                     .setPlatformVersion(config.getIosPlatformVersion())
                     .setDeviceName(config.getIosDeviceName())
                     .autoDismissAlerts()
-                    .setBundleId(config.getIosBundleId())
-                    .setApp(config.getIosApp());
+                    .setBundleId(config.getIosBundleId());
 
-            IOSDriver driver = new IOSDriver(URI.create(config.getAppiumServerUrl()).toURL(), options);
+            Device device = DeviceContext.get();
+            if (device != null) {
+                options.setUdid(device.getUdid()).setDeviceName(device.getName());
+            }
+
+            SessionEndpoint endpoint = DriverManager.getSessionEndpoint();
+            options.setWdaLocalPort(endpoint.getPorts().getWdaLocalPort())
+                    .setMjpegServerPort(endpoint.getPorts().getMjpegServerPort());
+
+            Function<Boolean, IOSDriver> createSession = reuseInstalled -> {
+                XCUITestOptions sessionOptions = new XCUITestOptions(options);
+                if (reuseInstalled) {
+                    sessionOptions.setNoReset(true);
+                } else {
+                    sessionOptions.setApp(config.getIosApp());
+                }
+                return new IOSDriver(endpoint.getClientConfig(), sessionOptions);
+            };
+            // A reused app is reset with mobile: clearApp, which XCUITest supports on simulators only
+            IOSDriver driver;
+            if (isRealDevice(device)) {
+                driver = createSession.apply(false);
+            } else {
+                String deviceKey = device != null ? device.getUdid() : config.getIosDeviceName();
+                driver = AppInstallCache.getInstance().startSession(TestConfig.Platform.IOS, deviceKey,
+                        config.getIosApp(), config.getIosBundleId(), createSession);
+            }
             driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
 
             driverThreadLocal.set(driver);
             log.info("✅ iOS driver initialized successfully!");
 
-        } catch (MalformedURLException e) {
+        } catch (WebDriverException e) {
             throw new RuntimeException("❌ Failed to initialize iOS driver: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Simulator UDIDs are UUIDs, real devices have 40 hex digits or the 8-16 digit form of newer models.
+     * Without a UDID XCUITest picks a simulator by device name.
+     */
+    private static boolean isRealDevice(Device device) {
+        return device != null && !SIMULATOR_UDID.matcher(device.getUdid()).matches();
+    }
+
     /**
      * Get current thread's driver instance
      */
@@ -74,6 +112,11 @@ public class IosDriverManager implements MobileDriver {
             log.info("✅ Driver quit successfully!");
         }
     }
+
+    @Override
+    public void discardDriver() {
+        driverThreadLocal.remove();
+    }
     
     /**
      * Check if driver is initialized
@@ -82,6 +125,11 @@ public class IosDriverManager implements MobileDriver {
     public boolean isDriverInitialized() {
         return driverThreadLocal.get() != null;
     }
+
+    @Override
+    public TestConfig.Platform getPlatform() {
+        return TestConfig.Platform.IOS;
+    }
     
     // Static convenience methods for backward compatibility
     public static IOSDriver getIosDriver() {
@@ -1,5 +1,6 @@
 package drivers;
 
+import config.TestConfig;
 import io.appium.java_client.AppiumDriver;
 
 /**
@@ -22,10 +23,21 @@ public interface MobileDriver {
      * Quit the driver and clean up resources
      */
     void quitDriver();
+
+    /**
+     * Forget the driver without ending the session remotely, for sessions that are already gone
+     */
+    void discardDriver();
     
     /**
      * Check if driver is initialized
      * @return true if driver is available
      */
     boolean isDriverInitialized();
+
+    /**
+     * Get the platform this driver manager creates sessions for
+     * @return platform of the session
+     */
+    TestConfig.Platform getPlatform();
 }
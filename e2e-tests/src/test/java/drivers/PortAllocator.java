@@ -0,0 +1,51 @@
+package drivers;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out free local ports so parallel sessions never collide on
+ * Appium server, systemPort, mjpegServerPort or wdaLocalPort.
+ * A port is reserved for this JVM until released, and only handed out if nothing else is listening on it.
+ */
+public class PortAllocator {
+
+    private static final Set<Integer> reserved = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Reserve a free port in the given range (inclusive)
+     */
+    public static int allocate(int from, int to) {
+        for (int port = from; port <= to; port++) {
+            if (reserved.add(port)) {
+                if (isFree(port)) {
+                    return port;
+                }
+                reserved.remove(port);
+            }
+        }
+        throw new RuntimeException("❌ No free port in range " + from + "-" + to);
+    }
+
+    public static void release(int port) {
+        reserved.remove(port);
+    }
+
+    static boolean isReserved(int port) {
+        return reserved.contains(port);
+    }
+
+    private static boolean isFree(int port) {
+        try (ServerSocket socket = new ServerSocket()) {
+            socket.setReuseAddress(false);
+            socket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package drivers;
+
+/**
+ * Starts Appium server processes for {@link AppiumServerPool}.
+ * Swap the implementation (e.g. a stub executable through {@link CommandServerLauncher}) to test the pool
+ * without a real Appium installation.
+ */
+@FunctionalInterface
+public interface ServerLauncher {
+
+    /**
+     * Start a server listening on the given port and return once it accepts requests
+     */
+    ServerProcess start(int port);
+}
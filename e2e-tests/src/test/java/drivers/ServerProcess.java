@@ -0,0 +1,24 @@
+package drivers;
+
+import java.net.URL;
+
+/**
+ * A running Appium server process started by a {@link ServerLauncher}
+ */
+public interface ServerProcess {
+
+    /**
+     * Get the URL sessions are created against
+     */
+    URL getUrl();
+
+    /**
+     * Check if the process is still alive
+     */
+    boolean isRunning();
+
+    /**
+     * Stop the process
+     */
+    void stop();
+}
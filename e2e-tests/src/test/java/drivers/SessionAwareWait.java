@@ -0,0 +1,33 @@
+package drivers;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WebDriverWait that gives up as soon as the session watchdog reports the session lost,
+ * instead of polling a dead session until the timeout
+ */
+public class SessionAwareWait extends WebDriverWait {
+
+    private final SessionWatchdog watchdog;
+
+    public SessionAwareWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+        this.watchdog = DriverManager.getSessionWatchdog();
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        if (watchdog == null) {
+            return super.until(isTrue);
+        }
+        watchdog.assertAlive();
+        return super.until(driver -> {
+            watchdog.assertAlive();
+            return isTrue.apply(driver);
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package drivers;
+
+import config.TestConfig;
+import io.appium.java_client.AppiumClientConfig;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+
+/**
+ * Where a session runs: the Appium server URL and the device-side ports reserved for it.
+ * Uses a server from {@link AppiumServerPool} when appium.server.managed=true, otherwise appium.serverUrl.
+ */
+public class SessionEndpoint {
+
+    private final URL serverUrl;
+    private final AppiumServer server;
+    private final SessionPorts ports;
+
+    private SessionEndpoint(URL serverUrl, AppiumServer server, SessionPorts ports) {
+        this.serverUrl = serverUrl;
+        this.server = server;
+        this.ports = ports;
+    }
+
+    public static SessionEndpoint allocate(TestConfig.Platform platform) {
+        SessionPorts ports = SessionPorts.allocate(platform);
+        AppiumServer server = null;
+        try {
+            if (AppiumServerPool.isEnabled()) {
+                server = AppiumServerPool.getInstance().lease();
+                return new SessionEndpoint(server.getUrl(), server, ports);
+            }
+            return new SessionEndpoint(URI.create(TestConfig.getInstance().getAppiumServerUrl()).toURL(), null, ports);
+        } catch (MalformedURLException e) {
+            ports.release();
+            throw new RuntimeException("❌ Invalid Appium server URL: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            ports.release();
+            if (server != null) {
+                AppiumServerPool.getInstance().release(server);
+            }
+            throw e;
+        }
+    }
+
+    public URL getServerUrl() {
+        return serverUrl;
+    }
+
+    /**
+     * Get the HTTP client settings for a driver on this endpoint. Commands time out after session.commandTimeoutSeconds
+     * instead of the client default of three minutes, so a command sent to a hung server fails in bounded time.
+     */
+    public AppiumClientConfig getClientConfig() {
+        return AppiumClientConfig.defaultConfig()
+                .baseUrl(serverUrl)
+                .readTimeout(Duration.ofSeconds(TestConfig.getInstance().getSessionCommandTimeoutSeconds()));
+    }
+
+    public SessionPorts getPorts() {
+        return ports;
+    }
+
+    /**
+     * Return the server lease and ports
+     */
+    public void release() {
+        ports.release();
+        if (server != null) {
+            AppiumServerPool.getInstance().release(server);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return serverUrl + " (" + ports + ")";
+    }
+}
@@ -0,0 +1,19 @@
+package drivers;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Thrown when the session's driver, device or Appium server is gone, so callers stop waiting on it
+ */
+public class SessionLostException extends WebDriverException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SessionLostException(String message) {
+        super(message);
+    }
+
+    public SessionLostException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
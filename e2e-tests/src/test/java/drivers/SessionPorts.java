@@ -0,0 +1,70 @@
+package drivers;
+
+import config.TestConfig;
+
+/**
+ * Device-side ports of one session, allocated from non-overlapping ranges:
+ * systemPort 8200-8299 (Android), wdaLocalPort 8100-8199 (iOS), mjpegServerPort 7810-7899 (both)
+ */
+public class SessionPorts {
+
+    private final Integer systemPort;
+    private final Integer wdaLocalPort;
+    private final int mjpegServerPort;
+
+    private SessionPorts(Integer systemPort, Integer wdaLocalPort, int mjpegServerPort) {
+        this.systemPort = systemPort;
+        this.wdaLocalPort = wdaLocalPort;
+        this.mjpegServerPort = mjpegServerPort;
+    }
+
+    public static SessionPorts allocate(TestConfig.Platform platform) {
+        Integer systemPort = platform == TestConfig.Platform.ANDROID ? PortAllocator.allocate(8200, 8299) : null;
+        Integer wdaLocalPort = null;
+        try {
+            wdaLocalPort = platform == TestConfig.Platform.IOS ? PortAllocator.allocate(8100, 8199) : null;
+            return new SessionPorts(systemPort, wdaLocalPort, PortAllocator.allocate(7810, 7899));
+        } catch (RuntimeException e) {
+            if (systemPort != null) {
+                PortAllocator.release(systemPort);
+            }
+            if (wdaLocalPort != null) {
+                PortAllocator.release(wdaLocalPort);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * UiAutomator2 server port (Android only)
+     */
+    public Integer getSystemPort() {
+        return systemPort;
+    }
+
+    /**
+     * WebDriverAgent port (iOS only)
+     */
+    public Integer getWdaLocalPort() {
+        return wdaLocalPort;
+    }
+
+    public int getMjpegServerPort() {
+        return mjpegServerPort;
+    }
+
+    public void release() {
+        if (systemPort != null) {
+            PortAllocator.release(systemPort);
+        }
+        if (wdaLocalPort != null) {
+            PortAllocator.release(wdaLocalPort);
+        }
+        PortAllocator.release(mjpegServerPort);
+    }
+
+    @Override
+    public String toString() {
+        return "systemPort=" + systemPort + ", wdaLocalPort=" + wdaLocalPort + ", mjpegServerPort=" + mjpegServerPort;
+    }
+}
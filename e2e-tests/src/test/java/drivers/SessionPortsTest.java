@@ -0,0 +1,57 @@
+package drivers;
+
+import config.TestConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionPortsTest {
+
+    @Test
+    void allocatesPlatformPortsAndReleasesThem() {
+        SessionPorts android = SessionPorts.allocate(TestConfig.Platform.ANDROID);
+        SessionPorts ios = SessionPorts.allocate(TestConfig.Platform.IOS);
+        try {
+            assertNotNull(android.getSystemPort());
+            assertNull(android.getWdaLocalPort());
+            assertNull(ios.getSystemPort());
+            assertNotNull(ios.getWdaLocalPort());
+            assertNotEquals(android.getMjpegServerPort(), ios.getMjpegServerPort());
+            assertTrue(PortAllocator.isReserved(android.getSystemPort()));
+        } finally {
+            android.release();
+            ios.release();
+        }
+        assertFalse(PortAllocator.isReserved(android.getSystemPort()));
+        assertFalse(PortAllocator.isReserved(ios.getWdaLocalPort()));
+        assertFalse(PortAllocator.isReserved(ios.getMjpegServerPort()));
+    }
+
+    @Test
+    void releasesAllocatedPortsWhenALaterRangeIsExhausted() {
+        List<Integer> mjpegPorts = new ArrayList<>();
+        try {
+            while (true) {
+                mjpegPorts.add(PortAllocator.allocate(7810, 7899));
+            }
+        } catch (RuntimeException exhausted) {
+            // every free mjpeg port is now taken
+        }
+        try {
+            assertThrows(RuntimeException.class, () -> SessionPorts.allocate(TestConfig.Platform.ANDROID));
+            for (int port = 8200; port <= 8299; port++) {
+                assertFalse(PortAllocator.isReserved(port), "systemPort " + port + " should have been released");
+            }
+        } finally {
+            mjpegPorts.forEach(PortAllocator::release);
+        }
+    }
+}
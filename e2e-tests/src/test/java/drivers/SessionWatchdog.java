@@ -0,0 +1,177 @@
+package drivers;
+
+import config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pings a session in the background so a crashed driver, device or Appium server is noticed within seconds.
+ * The ping lists the server's sessions (GET /appium/sessions) and checks the session is still among them;
+ * Appium ends a session whose UiAutomator2 / WebDriverAgent or device is gone. Server-level endpoints do not
+ * count as session commands, so pings never reset the session's newCommandTimeout. Servers without the session
+ * list are pinged on GET /status instead, which only notices the server itself going away.
+ * Pings go through a separate HTTP client so they never queue behind the test's own commands. Background pings
+ * are sent asynchronously, at most one in flight per session, so a hung server only delays the watchdog of its
+ * own sessions.
+ *
+ * A refused connection or a session missing from the list marks the session lost at once; other errors and
+ * timeouts count as missed pings and mark it lost after session.maxMissedPings in a row.
+ * Waits built with {@link SessionAwareWait} then abort instead of running out their timeout.
+ */
+@Slf4j
+public class SessionWatchdog {
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "session-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    private final String sessionId;
+    private final URI sessionsUri;
+    private final URI statusUri;
+    private volatile boolean sessionListSupported = true;
+    private final Duration pingTimeout;
+    private final int maxMissedPings;
+    private final AtomicBoolean pingInFlight = new AtomicBoolean();
+    private final AtomicInteger missedPings = new AtomicInteger();
+    private volatile String lostReason;
+    private ScheduledFuture<?> task;
+
+    SessionWatchdog(URL serverUrl, String sessionId, Duration pingTimeout, int maxMissedPings) {
+        this.sessionId = sessionId;
+        String base = serverUrl.toString().replaceAll("/+$", "");
+        this.sessionsUri = URI.create(base + "/appium/sessions");
+        this.statusUri = URI.create(base + "/status");
+        this.pingTimeout = pingTimeout;
+        this.maxMissedPings = maxMissedPings;
+    }
+
+    /**
+     * Start watching a session
+     */
+    public static SessionWatchdog start(URL serverUrl, String sessionId) {
+        TestConfig config = TestConfig.getInstance();
+        SessionWatchdog watchdog = new SessionWatchdog(serverUrl, sessionId,
+                Duration.ofMillis(config.getSessionPingTimeoutMs()), config.getSessionMaxMissedPings());
+        long intervalMs = config.getSessionWatchdogIntervalMs();
+        watchdog.task = scheduler.scheduleWithFixedDelay(watchdog::pingAsync, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        return watchdog;
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    public boolean isLost() {
+        return lostReason != null;
+    }
+
+    public String getLostReason() {
+        return lostReason;
+    }
+
+    /**
+     * @throws SessionLostException if the session was marked lost
+     */
+    public void assertAlive() {
+        String reason = lostReason;
+        if (reason != null) {
+            throw new SessionLostException("❌ Session " + sessionId + " lost: " + reason);
+        }
+    }
+
+    /**
+     * Check the session right now instead of waiting for the next background ping
+     * @return true if the session answered
+     */
+    public boolean probe() {
+        if (isLost()) {
+            return false;
+        }
+        try {
+            handle(client.send(newPing(), HttpResponse.BodyHandlers.ofString()), null);
+        } catch (IOException e) {
+            handle(null, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !isLost() && missedPings.get() == 0;
+    }
+
+    /**
+     * Send a background ping unless the previous one is still waiting for an answer
+     */
+    private void pingAsync() {
+        if (isLost() || !pingInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        client.sendAsync(newPing(), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    try {
+                        handle(response, error);
+                    } finally {
+                        pingInFlight.set(false);
+                    }
+                });
+    }
+
+    private HttpRequest newPing() {
+        return HttpRequest.newBuilder(sessionListSupported ? sessionsUri : statusUri).timeout(pingTimeout).GET().build();
+    }
+
+    private void handle(HttpResponse<String> response, Throwable error) {
+        if (isLost()) {
+            return;
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ConnectException) {
+            markLost("Appium server refused the connection");
+        } else if (cause != null) {
+            missed(cause.getClass().getSimpleName());
+        } else if (response.statusCode() == 404 && response.uri().equals(sessionsUri)) {
+            log.debug("Appium server does not list sessions, watching {} through /status", sessionId);
+            sessionListSupported = false;
+        } else if (response.statusCode() != 200) {
+            missed("HTTP " + response.statusCode());
+        } else if (response.uri().equals(sessionsUri) && !response.body().contains("\"" + sessionId + "\"")) {
+            markLost("session no longer exists on the server");
+        } else {
+            missedPings.set(0);
+        }
+    }
+
+    private void missed(String reason) {
+        int missed = missedPings.incrementAndGet();
+        log.debug("Session {} missed ping {}/{}: {}", sessionId, missed, maxMissedPings, reason);
+        if (missed >= maxMissedPings) {
+            markLost(missed + " pings failed in a row, last: " + reason);
+        }
+    }
+
+    private void markLost(String reason) {
+        lostReason = reason;
+        stop();
+        log.error("💀 Session {} lost: {}", sessionId, reason);
+    }
+}
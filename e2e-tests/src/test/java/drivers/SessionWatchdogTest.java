@@ -0,0 +1,103 @@
+package drivers;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Probes a stub Appium server that records the paths it is asked for
+ */
+class SessionWatchdogTest {
+
+    private HttpServer server;
+    private URL serverUrl;
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+    private volatile String sessions = "{\"value\":[{\"id\":\"abc\",\"capabilities\":{}}]}";
+    private volatile boolean listsSessions = true;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            paths.add(path);
+            String body = path.equals("/appium/sessions") && listsSessions ? sessions
+                    : path.equals("/status") ? "{\"value\":{\"ready\":true}}" : null;
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+            } else {
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        serverUrl = new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void listedSessionIsAliveWithoutSendingSessionCommands() {
+        SessionWatchdog watchdog = watchdog("abc");
+
+        assertTrue(watchdog.probe());
+        assertFalse(watchdog.isLost());
+        assertEquals(List.of("/appium/sessions"), paths);
+    }
+
+    @Test
+    void sessionMissingFromTheListIsLost() {
+        SessionWatchdog watchdog = watchdog("abc");
+        sessions = "{\"value\":[{\"id\":\"abcd\",\"capabilities\":{}}]}";
+
+        assertFalse(watchdog.probe());
+        assertTrue(watchdog.isLost());
+        assertThrows(SessionLostException.class, watchdog::assertAlive);
+    }
+
+    @Test
+    void fallsBackToStatusWhenTheServerDoesNotListSessions() {
+        listsSessions = false;
+        SessionWatchdog watchdog = watchdog("abc");
+
+        watchdog.probe();
+        assertTrue(watchdog.probe());
+        assertFalse(watchdog.isLost());
+        assertEquals(List.of("/appium/sessions", "/status"), paths);
+    }
+
+    @Test
+    void refusedConnectionIsLost() {
+        SessionWatchdog watchdog = watchdog("abc");
+        server.stop(0);
+
+        assertFalse(watchdog.probe());
+        assertTrue(watchdog.getLostReason().contains("refused"));
+    }
+
+    private SessionWatchdog watchdog(String sessionId) {
+        return new SessionWatchdog(serverUrl, sessionId, Duration.ofSeconds(2), 3);
+    }
+}
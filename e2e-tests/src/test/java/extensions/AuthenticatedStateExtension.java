@@ -0,0 +1,24 @@
+package extensions;
+
+import annotations.RequiresAuthenticatedState;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import state.AuthStateManager;
+
+@Slf4j
+public class AuthenticatedStateExtension implements BeforeEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (requiresAuthenticatedState(context)) {
+            log.info("🔑 Restoring authenticated state for: {}", context.getDisplayName());
+            AuthStateManager.restore();
+        }
+    }
+
+    static boolean requiresAuthenticatedState(ExtensionContext context) {
+        return context.getTestClass().map(c -> c.isAnnotationPresent(RequiresAuthenticatedState.class)).orElse(false)
+        || context.getTestMethod().map(m -> m.isAnnotationPresent(RequiresAuthenticatedState.class)).orElse(false);
+    }
+}
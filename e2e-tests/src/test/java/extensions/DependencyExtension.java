@@ -0,0 +1,98 @@
+package extensions;
+
+import annotations.DependsOn;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+import org.junit.platform.commons.annotation.Testable;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Skips tests whose {@link DependsOn} upstream tests did not pass in the current class run, and fails tests
+ * that name an upstream which is not a test of their class.
+ * Outcomes are kept in the class's extension store, so they are scoped to one class on one session.
+ */
+@Slf4j
+public class DependencyExtension implements ExecutionCondition, TestWatcher {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(DependencyExtension.class);
+    private static final String OUTCOMES_KEY = "outcomes";
+
+    private enum Outcome {
+        PASSED("passed"),
+        FAILED("failed"),
+        ABORTED("was aborted"),
+        SKIPPED("was skipped");
+
+        private final String description;
+
+        Outcome(String description) {
+            this.description = description;
+        }
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        DependsOn dependsOn = context.getTestMethod().map(method -> method.getAnnotation(DependsOn.class)).orElse(null);
+        if (dependsOn == null) {
+            return ConditionEvaluationResult.enabled("No dependencies");
+        }
+        Map<String, Outcome> outcomes = outcomes(context);
+        for (String upstream : dependsOn.value()) {
+            if (!isTestMethod(context.getRequiredTestClass(), upstream)) {
+                throw new RuntimeException("❌ " + context.getRequiredTestMethod().getName() + " depends on " + upstream
+                        + ", which is not a test of " + context.getRequiredTestClass().getSimpleName());
+            }
+            Outcome outcome = outcomes.get(upstream);
+            if (outcome != null && outcome != Outcome.PASSED) {
+                String reason = "Upstream test " + upstream + " " + outcome.description;
+                log.warn("⏭️ Skipping {}: {}", context.getDisplayName(), reason);
+                return ConditionEvaluationResult.disabled(reason);
+            }
+        }
+        return ConditionEvaluationResult.enabled("Upstream tests passed or have not run");
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        record(context, Outcome.PASSED);
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        record(context, Outcome.FAILED);
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        record(context, Outcome.ABORTED);
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        record(context, Outcome.SKIPPED);
+    }
+
+    private void record(ExtensionContext context, Outcome outcome) {
+        context.getTestMethod().ifPresent(method -> outcomes(context).put(method.getName(), outcome));
+    }
+
+    private static boolean isTestMethod(Class<?> testClass, String name) {
+        return AnnotationSupport.findAnnotatedMethods(testClass, Testable.class, HierarchyTraversalMode.TOP_DOWN).stream()
+                .anyMatch(method -> method.getName().equals(name));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Outcome> outcomes(ExtensionContext context) {
+        ExtensionContext classContext = context.getParent().orElse(context);
+        return classContext.getStore(NAMESPACE)
+                .getOrComputeIfAbsent(OUTCOMES_KEY, key -> new ConcurrentHashMap<String, Outcome>(), Map.class);
+    }
+}
@@ -0,0 +1,114 @@
+package extensions;
+
+import annotations.DependsOn;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * Runs fixture classes through the launcher. Fixtures are @Disabled so they only run here,
+ * where the condition that honours @Disabled is switched off.
+ */
+class DependencyExtensionTest {
+
+    @Test
+    void skipsTestsWhoseUpstreamFailed() {
+        Map<String, String> results = run(Chain.class);
+
+        assertEquals("FAILED", results.get("login"));
+        assertTrue(results.get("book").startsWith("SKIPPED"), results.get("book"));
+        assertTrue(results.get("book").contains("login failed"), results.get("book"));
+        assertEquals("SUCCESSFUL", results.get("browse"));
+        assertEquals("SUCCESSFUL", results.get("checkout"));
+    }
+
+    @Test
+    void failsTestsThatDependOnAnUnknownTest() {
+        Map<String, String> results = run(UnknownDependency.class);
+
+        assertEquals("FAILED", results.get("typo"));
+    }
+
+    private static Map<String, String> run(Class<?> fixture) {
+        Map<String, String> results = new ConcurrentHashMap<>();
+        TestExecutionListener listener = new TestExecutionListener() {
+            @Override
+            public void executionSkipped(TestIdentifier identifier, String reason) {
+                methodName(identifier, name -> results.put(name, "SKIPPED " + reason));
+            }
+
+            @Override
+            public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+                methodName(identifier, name -> results.put(name, result.getStatus().name()));
+            }
+        };
+        LauncherFactory.create().execute(LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(fixture))
+                .configurationParameter("junit.jupiter.conditions.deactivate", "org.junit.*DisabledCondition")
+                .build(), listener);
+        return results;
+    }
+
+    private static void methodName(TestIdentifier identifier, Consumer<String> consumer) {
+        identifier.getSource()
+                .filter(MethodSource.class::isInstance)
+                .map(source -> ((MethodSource) source).getMethodName())
+                .ifPresent(consumer);
+    }
+
+    @Disabled("Fixture, run by DependencyExtensionTest")
+    @ExtendWith(DependencyExtension.class)
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    static class Chain {
+
+        @Test
+        @Order(1)
+        void login() {
+            throw new AssertionError("login failed");
+        }
+
+        @Test
+        @Order(2)
+        @DependsOn("login")
+        void book() {
+        }
+
+        @Test
+        @Order(3)
+        void browse() {
+        }
+
+        @Test
+        @Order(4)
+        @DependsOn("browse")
+        void checkout() {
+        }
+    }
+
+    @Disabled("Fixture, run by DependencyExtensionTest")
+    @ExtendWith(DependencyExtension.class)
+    static class UnknownDependency {
+
+        @Test
+        @DependsOn("logn")
+        void typo() {
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package extensions;
+
+import drivers.DriverManager;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import scheduling.TestDurationStore;
+
+/**
+ * Records the wall-clock duration of each test class per platform, including driver setup and teardown,
+ * so the shard scheduler can balance devices by historical cost.
+ */
+public class DurationRecordingExtension implements BeforeAllCallback, AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(DurationRecordingExtension.class);
+    private static final String START_KEY = "start";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(START_KEY, System.currentTimeMillis());
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove(START_KEY, Long.class);
+        if (start == null) {
+            return;
+        }
+        TestDurationStore store = TestDurationStore.getInstance();
+        store.record(TestDurationStore.key(context.getRequiredTestClass().getName(), DriverManager.getCurrentPlatform()),
+                System.currentTimeMillis() - start);
+        store.save();
+    }
+}
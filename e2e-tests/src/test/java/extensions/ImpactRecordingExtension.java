@@ -0,0 +1,55 @@
+package extensions;
+
+import impact.ImpactMap;
+import impact.ImpactRecorder;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Set;
+
+/**
+ * Records which page objects, helpers and drivers each test exercises into the {@link ImpactMap},
+ * so later runs can select only the tests affected by a change. Class-level setup and teardown
+ * are recorded under the test class name.
+ */
+public class ImpactRecordingExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ImpactRecordingExtension.class);
+    private static final String OUTER_KEY = "outer";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        ImpactRecorder.begin();
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        Set<String> classLevel = ImpactRecorder.begin();
+        if (classLevel != null) {
+            context.getStore(NAMESPACE).put(OUTER_KEY, classLevel);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterEach(ExtensionContext context) {
+        Set<String> used = ImpactRecorder.end(context.getStore(NAMESPACE).remove(OUTER_KEY, Set.class));
+        if (ImpactRecorder.isEnabled()) {
+            ImpactMap.getInstance().record(context.getRequiredTestClass().getName() + "#" + context.getRequiredTestMethod().getName(),
+                    used, context.getExecutionException().isEmpty());
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        Set<String> used = ImpactRecorder.end(null);
+        if (ImpactRecorder.isEnabled()) {
+            ImpactMap impactMap = ImpactMap.getInstance();
+            impactMap.record(context.getRequiredTestClass().getName(), used, context.getExecutionException().isEmpty());
+            impactMap.save();
+        }
+    }
+}
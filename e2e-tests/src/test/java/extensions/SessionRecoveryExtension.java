@@ -0,0 +1,93 @@
+package extensions;
+
+import config.TestConfig;
+import drivers.DeviceContext;
+import drivers.DriverManager;
+import drivers.SessionLostException;
+import drivers.SessionWatchdog;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestInstanceFactoryContext;
+import org.junit.jupiter.api.extension.TestInstancePreConstructCallback;
+import retry.Checkpoints;
+
+/**
+ * Replaces a lost session (crashed UiAutomator2 / WebDriverAgent, device or Appium server) so the remaining
+ * tests of the class keep running.
+ *
+ * - A test, @BeforeEach or @AfterEach method that fails on a session the watchdog reports lost fails fast with
+ *   a {@link SessionLostException}; other failures pass through unchanged.
+ * - Before the next test instance is created, a lost session is replaced with a new one on the same device.
+ *   This also covers sessions lost between tests or in other extensions' callbacks, such as the authenticated
+ *   state restore. Page objects capture the driver when the instance is created, so they get the new session,
+ *   and every extension runs as usual for that test.
+ *
+ * The failed test is not re-run: its instance still holds the old driver. A class replaces its session at most
+ * session.maxRecoveries times; after that the device is marked failed and the remaining tests fail.
+ */
+@Slf4j
+public class SessionRecoveryExtension implements TestInstancePreConstructCallback, TestExecutionExceptionHandler,
+        LifecycleMethodExecutionExceptionHandler {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SessionRecoveryExtension.class);
+    private static final String RECOVERIES_KEY = "recoveries";
+
+    @Override
+    public void preConstructTestInstance(TestInstanceFactoryContext factoryContext, ExtensionContext context) {
+        if (!DriverManager.isDriverInitialized() || !DriverManager.isSessionLost()) {
+            return;
+        }
+        ExtensionContext.Store store = context.getRoot().getStore(NAMESPACE);
+        String key = RECOVERIES_KEY + ":" + factoryContext.getTestClass().getName() + ":" + Thread.currentThread().getName();
+        int recoveries = store.getOrComputeIfAbsent(key, k -> 0, Integer.class);
+        int maxRecoveries = TestConfig.getInstance().getSessionMaxRecoveries();
+        if (recoveries >= maxRecoveries) {
+            DeviceContext.markFailed("session lost again after " + recoveries + " recoveries");
+            throw new SessionLostException("❌ Session lost again after " + recoveries + " recoveries, not recovering");
+        }
+        store.put(key, recoveries + 1);
+
+        log.warn("💀 Session lost before {}, recovering ({}/{})", context.getDisplayName(), recoveries + 1, maxRecoveries);
+        long start = System.currentTimeMillis();
+        try {
+            DriverManager.recoverSession();
+        } catch (RuntimeException e) {
+            log.error("❌ Session recovery failed: {}", e.getMessage());
+            DeviceContext.markFailed("session recovery failed: " + e.getMessage());
+            throw e;
+        }
+        Checkpoints.clear();
+        log.info("✅ Session recovered in {} ms", System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        throw onLostSession(context, "test", throwable);
+    }
+
+    @Override
+    public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        throw onLostSession(context, "@BeforeEach", throwable);
+    }
+
+    @Override
+    public void handleAfterEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        throw onLostSession(context, "@AfterEach", throwable);
+    }
+
+    /**
+     * Mark a failure on a lost session as such, so retries skip it and the next test recovers the session
+     * @return the failure to rethrow
+     */
+    private static Throwable onLostSession(ExtensionContext context, String phase, Throwable throwable) {
+        if (throwable instanceof SessionLostException || !DriverManager.isDriverInitialized() || !DriverManager.isSessionLost()) {
+            return throwable;
+        }
+        SessionWatchdog watchdog = DriverManager.getSessionWatchdog();
+        String reason = watchdog != null ? watchdog.getLostReason() : "unknown";
+        log.warn("💀 Session lost during {} of {}: {}", phase, context.getDisplayName(), reason);
+        return new SessionLostException("❌ Session lost during " + phase + " (" + reason + "): " + throwable.getMessage(), throwable);
+    }
+}
@@ -0,0 +1,96 @@
+package extensions;
+
+import annotations.Retry;
+import drivers.DriverManager;
+import drivers.SessionLostException;
+import helpers.AppLifecycleHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.TestAbortedException;
+import pages.BasePage;
+import retry.Checkpoints;
+import retry.FlakeStats;
+import retry.RetryBudget;
+import state.AuthStateManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Retries failed {@link Retry} tests on the live session instead of starting a new one: restores the
+ * checkpoint and invokes the test again on the same instance. Every retry takes one from the run-wide
+ * {@link RetryBudget}, and outcomes are counted in {@link FlakeStats}.
+ *
+ * Failures on a lost session are not retried, also when the session is lost during a retry:
+ * {@link SessionRecoveryExtension} replaces the session before the next test. Aborted tests are not retried.
+ */
+@Slf4j
+public class SmartRetryExtension implements TestExecutionExceptionHandler {
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        Retry retry = findRetry(context);
+        Method method = context.getRequiredTestMethod();
+        if (retry == null || throwable instanceof TestAbortedException || throwable instanceof SessionLostException
+                || method.getParameterCount() > 0 || !DriverManager.isDriverInitialized() || DriverManager.isSessionLost()) {
+            throw throwable;
+        }
+
+        String key = context.getRequiredTestClass().getSimpleName() + "." + method.getName();
+        FlakeStats.recordFailure(FlakeStats.Kind.TEST, key);
+        for (int attempt = 1; attempt <= retry.value(); attempt++) {
+            if (!RetryBudget.tryConsume()) {
+                log.warn("⚠️ Retry budget used up, not retrying {}", context.getDisplayName());
+                throw throwable;
+            }
+            FlakeStats.recordRetry(FlakeStats.Kind.TEST, key);
+            log.warn("🔁 {} failed ({}), retrying on the same session ({}/{})",
+                    context.getDisplayName(), throwable.getMessage(), attempt, retry.value());
+            try {
+                restoreCheckpoint(context, retry);
+            } catch (Exception e) {
+                log.error("❌ Could not restore checkpoint for {}: {}", context.getDisplayName(), e.getMessage());
+                throwable.addSuppressed(e);
+                throw throwable;
+            }
+
+            try {
+                method.setAccessible(true);
+                method.invoke(context.getRequiredTestInstance());
+                FlakeStats.recordRecovered(FlakeStats.Kind.TEST, key);
+                log.info("✅ {} passed on retry {}", context.getDisplayName(), attempt);
+                return;
+            } catch (InvocationTargetException e) {
+                Throwable retryFailure = e.getCause();
+                FlakeStats.recordFailure(FlakeStats.Kind.TEST, key);
+                if (retryFailure instanceof TestAbortedException || retryFailure instanceof SessionLostException
+                        || DriverManager.isSessionLost()) {
+                    retryFailure.addSuppressed(throwable);
+                    throw retryFailure;
+                }
+                throwable.addSuppressed(retryFailure);
+            }
+        }
+        throw throwable;
+    }
+
+    private static void restoreCheckpoint(ExtensionContext context, Retry retry) {
+        boolean authenticated = AuthenticatedStateExtension.requiresAuthenticatedState(context);
+        Class<? extends BasePage> checkpoint = retry.checkpoint();
+        if (checkpoint != BasePage.class) {
+            Checkpoints.restore(checkpoint, authenticated ? AuthStateManager::restore : new AppLifecycleHelper()::relaunchApp);
+        } else if (authenticated) {
+            AuthStateManager.restore();
+        } else {
+            new AppLifecycleHelper().resetApp();
+        }
+    }
+
+    private static Retry findRetry(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), Retry.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), Retry.class))
+                .orElse(null);
+    }
+}
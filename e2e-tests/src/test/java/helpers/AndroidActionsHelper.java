@@ -2,9 +2,16 @@ package helpers;
 
 import config.TestConfig;
 import drivers.DriverManager;
+import drivers.SessionAwareWait;
+import impact.ImpactRecorder;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
-import lombok.extern.slf4j.Slf4j;
+import locators.ImageTemplateLocator;
+import locators.TemplateMatch;
+import logging.EventLog;
+import logging.EventType;
+import retry.FlakeStats;
+import streaming.ScreenStream;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Pause;
 import org.openqa.selenium.interactions.PointerInput;
@@ -19,11 +26,11 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Optional;
 
 /**
  * Reusable mobile actions - following repository's AndroidActionsHelper pattern
  */
-@Slf4j
 public class AndroidActionsHelper {
 
     private final AppiumDriver driver;
@@ -31,7 +38,7 @@ public class AndroidActionsHelper {
 
     public AndroidActionsHelper() {
         this.driver = DriverManager.getDriver();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(30));
+        this.wait = new SessionAwareWait(driver, Duration.ofSeconds(30));
     }
 
     /**
@@ -39,12 +46,15 @@ public class AndroidActionsHelper {
      */
     public void clickElement(WebElement element, String elementName) {
         try {
-            log.info("🔘 Clicking {}...", elementName);
+            EventLog.info(EventType.CLICK, elementName);
+            ImpactRecorder.record();
             wait.until(ExpectedConditions.elementToBeClickable(element));
             element.click();
-            log.info("✅ Successfully clicked {}", elementName);
+            EventLog.info(EventType.CLICKED, elementName);
+            FlakeStats.recordSuccess(FlakeStats.Kind.LOCATOR, elementName);
         } catch (Exception e) {
-            log.error("❌ Failed to click {}: {}", elementName, e.getMessage());
+            EventLog.error(EventType.CLICK_FAILED, elementName, e.getMessage());
+            FlakeStats.recordFailure(FlakeStats.Kind.LOCATOR, elementName);
             throw new RuntimeException("Failed to click " + elementName, e);
         }
     }
@@ -54,40 +64,104 @@ public class AndroidActionsHelper {
      */
     public void tapElementByCoordinates(WebElement element, String elementName) {
         try {
-            log.info("👆 Tapping {} by coordinates...", elementName);
+            EventLog.info(EventType.TAP, elementName);
+            ImpactRecorder.record();
             wait.until(ExpectedConditions.visibilityOf(element));
             int x = element.getLocation().getX() + (element.getSize().getWidth() / 2);
             int y = element.getLocation().getY() + (element.getSize().getHeight() / 2);
-            log.info("   - Element coordinates: ({}, {})", x, y);
-            final PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-            Point tapPoint = new Point(594, 2157);
-            Sequence tap = new Sequence(finger, 1);
-            tap.addAction(finger.createPointerMove(Duration.ofMillis(0),
-                    PointerInput.Origin.viewport(), tapPoint.x, tapPoint.y));
-            tap.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
-            tap.addAction(new Pause(finger, Duration.ofMillis(200)));
-            tap.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-            driver.perform(Arrays.asList(tap));
-            log.info("✅ Successfully tapped {}", elementName);
+            EventLog.info(EventType.TAP_POINT, elementName, new Point(x, y));
+            performTap(new Point(594, 2157));
+            EventLog.info(EventType.TAPPED, elementName);
+            FlakeStats.recordSuccess(FlakeStats.Kind.LOCATOR, elementName);
         } catch (Exception e) {
-            log.error("❌ Failed to tap {}: {}", elementName, e.getMessage());
+            EventLog.error(EventType.TAP_FAILED, elementName, e.getMessage());
+            FlakeStats.recordFailure(FlakeStats.Kind.LOCATOR, elementName);
             throw new RuntimeException("Failed to tap " + elementName, e);
         }
     }
 
+    /**
+     * Tap a point in viewport coordinates
+     */
+    public void tapAt(Point point, String elementName) {
+        try {
+            EventLog.info(EventType.TAP, elementName);
+            ImpactRecorder.record();
+            EventLog.info(EventType.TAP_POINT, elementName, point);
+            performTap(point);
+            EventLog.info(EventType.TAPPED, elementName);
+            FlakeStats.recordSuccess(FlakeStats.Kind.LOCATOR, elementName);
+        } catch (Exception e) {
+            EventLog.error(EventType.TAP_FAILED, elementName, e.getMessage());
+            FlakeStats.recordFailure(FlakeStats.Kind.LOCATOR, elementName);
+            throw new RuntimeException("Failed to tap " + elementName, e);
+        }
+    }
+
+    /**
+     * Tap the widget matching an image template, for widgets without usable accessibility semantics
+     * @param template name of the reference image in src/test/resources/templates
+     * @param fallback action used when the template is missing or not found on screen
+     */
+    public void tapByTemplate(String template, String elementName, Runnable fallback) {
+        if (!ImageTemplateLocator.hasTemplate(template)) {
+            EventLog.info(EventType.TEMPLATE_MISS, elementName, "no reference image " + template);
+            fallback.run();
+            return;
+        }
+        Optional<TemplateMatch> match;
+        try {
+            match = new ImageTemplateLocator().find(template);
+        } catch (Exception e) {
+            EventLog.info(EventType.TEMPLATE_MISS, elementName, e.getMessage());
+            fallback.run();
+            return;
+        }
+        if (match.isEmpty()) {
+            EventLog.info(EventType.TEMPLATE_MISS, elementName, "no match above threshold");
+            fallback.run();
+            return;
+        }
+        EventLog.info(EventType.TEMPLATE_MATCH, elementName, match.get());
+        tapAt(match.get().getCenter(), elementName);
+    }
+
+    private void performTap(Point tapPoint) {
+        final PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+        Sequence tap = new Sequence(finger, 1);
+        tap.addAction(finger.createPointerMove(Duration.ofMillis(0),
+                PointerInput.Origin.viewport(), tapPoint.x, tapPoint.y));
+        tap.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
+        tap.addAction(new Pause(finger, Duration.ofMillis(200)));
+        tap.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+        driver.perform(Arrays.asList(tap));
+    }
+
+    /**
+     * Wait for animations and transitions to finish, using the live screen stream
+     * @return true once the screen is stable, false on timeout or when no stream is available
+     */
+    public boolean waitForScreenToSettle(Duration timeout) {
+        ScreenStream stream = DriverManager.getScreenStream();
+        return stream != null && stream.waitForStableScreen(Duration.ofMillis(300), timeout);
+    }
+
     /**
      * Send keys to element with clear and keyboard handling
      */
     public void sendKeys(WebElement element, String text, String elementName) {
         try {
-            log.info("⌨️ Entering text in {}...", elementName);
+            EventLog.info(EventType.TYPE, elementName);
+            ImpactRecorder.record();
             wait.until(ExpectedConditions.visibilityOf(element));
             clickElement(element, elementName);
             element.clear();
             element.sendKeys(text);
-            log.info("✅ Successfully entered text in {}", elementName);
+            EventLog.info(EventType.TYPED, elementName);
+            FlakeStats.recordSuccess(FlakeStats.Kind.LOCATOR, elementName);
         } catch (Exception e) {
-            log.error("❌ Failed to enter text in {}: {}", elementName, e.getMessage());
+            EventLog.error(EventType.TYPE_FAILED, elementName, e.getMessage());
+            FlakeStats.recordFailure(FlakeStats.Kind.LOCATOR, elementName);
             throw new RuntimeException("Failed to enter text in " + elementName, e);
         }
     }
@@ -97,16 +171,16 @@ public class AndroidActionsHelper {
      */
     public void closeKeyboard() {
         try {
-            log.info("🔽 Closing keyboard if open...");
+            EventLog.info(EventType.KEYBOARD_CLOSE, null);
             if (DriverManager.getCurrentPlatform() == TestConfig.Platform.ANDROID) {
                 AndroidDriver androidDriver = (AndroidDriver) driver;
                 if (androidDriver.isKeyboardShown()) {
                     androidDriver.hideKeyboard();
                 }
             }
-            log.info("✅ Keyboard closed (if it was open)");
+            EventLog.info(EventType.KEYBOARD_CLOSED, null);
         } catch (Exception e) {
-            log.info("ℹ️ Keyboard was not open, nothing to close.");
+            EventLog.info(EventType.KEYBOARD_NOT_OPEN, null);
         }
     }
 
@@ -115,6 +189,17 @@ public class AndroidActionsHelper {
      */
     public String takeScreenshot(String testName) {
         try {
+            // Prefer the live stream frame: no screenshot round trip, and it works while the driver is busy
+            ScreenStream stream = DriverManager.getScreenStream();
+            if (stream != null) {
+                String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+                String filePath = "screenshots/" + testName + "_" + timestamp + ".jpg";
+                if (stream.saveLatestFrame(Paths.get(filePath))) {
+                    EventLog.info(EventType.SCREENSHOT, filePath);
+                    return filePath;
+                }
+            }
+
             TakesScreenshot screenshot = (TakesScreenshot) driver;
             File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
 
@@ -126,11 +211,11 @@ public class AndroidActionsHelper {
             Files.createDirectories(Paths.get("screenshots"));
 
             Files.copy(sourceFile.toPath(), Paths.get(filePath));
-            log.info("📸 Screenshot saved: {}", filePath);
+            EventLog.info(EventType.SCREENSHOT, filePath);
             return filePath;
 
         } catch (IOException e) {
-            log.error("❌ Failed to take screenshot: {}", e.getMessage());
+            EventLog.error(EventType.SCREENSHOT_FAILED, e.getMessage(), null);
             return null;
         }
     }
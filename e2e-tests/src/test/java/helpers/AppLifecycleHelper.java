@@ -0,0 +1,101 @@
+package helpers;
+
+import accounts.AccountLease;
+import accounts.AccountPool;
+import config.TestConfig;
+import drivers.DriverManager;
+import impact.ImpactRecorder;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.InteractsWithApps;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+
+/**
+ * App lifecycle actions (relaunch, reset, data container paths) for the app under test
+ */
+@Slf4j
+public class AppLifecycleHelper {
+
+    private final AppiumDriver driver;
+    private final TestConfig.Platform platform;
+    private final String appId;
+
+    public AppLifecycleHelper() {
+        this(DriverManager.getDriver(), DriverManager.getCurrentPlatform());
+    }
+
+    /**
+     * Act on a session that is not (yet) the current thread's driver, e.g. while it is being set up
+     */
+    public AppLifecycleHelper(AppiumDriver driver, TestConfig.Platform platform) {
+        this.driver = driver;
+        this.platform = platform;
+        TestConfig config = TestConfig.getInstance();
+        this.appId = platform == TestConfig.Platform.ANDROID ? config.getAndroidAppPackage() : config.getIosBundleId();
+    }
+
+    /**
+     * Get the package name (Android) or bundle ID (iOS) of the app under test
+     */
+    public String getAppId() {
+        return appId;
+    }
+
+    public void terminateApp() {
+        ImpactRecorder.record();
+        ((InteractsWithApps) driver).terminateApp(appId);
+    }
+
+    public void activateApp() {
+        ImpactRecorder.record();
+        ((InteractsWithApps) driver).activateApp(appId);
+    }
+
+    /**
+     * Restart the app keeping its data
+     */
+    public void relaunchApp() {
+        log.info("🔄 Relaunching {}...", appId);
+        terminateApp();
+        activateApp();
+    }
+
+    /**
+     * Wipe the app's data. The app must not be running.
+     * On Android this also revokes runtime permissions, so they are granted again as on a fresh install.
+     */
+    public void clearAppData() {
+        log.info("🧽 Clearing app data for {}...", appId);
+        ImpactRecorder.record();
+        String idKey = platform == TestConfig.Platform.ANDROID ? "appId" : "bundleId";
+        driver.executeScript("mobile: clearApp", Map.of(idKey, appId));
+        if (platform == TestConfig.Platform.ANDROID) {
+            driver.executeScript("mobile: changePermissions", Map.of("permissions", "all", "appPackage", appId, "action", "grant"));
+        }
+        AccountLease lease = AccountPool.currentLease();
+        if (lease != null) {
+            lease.updateState(state -> state.withLoggedIn(false));
+        }
+    }
+
+    /**
+     * Restart the app from a clean, logged-out state
+     */
+    public void resetApp() {
+        terminateApp();
+        clearAppData();
+        activateApp();
+    }
+
+    /**
+     * Resolve a path inside the app's data container to the remote path format used by pull/push file commands
+     * @param relativePath path relative to the app's data directory, e.g. "shared_prefs"
+     */
+    public String toRemoteDataPath(String relativePath) {
+        if (platform == TestConfig.Platform.ANDROID) {
+            return "@" + appId + "/" + relativePath;
+        }
+        return "@" + appId + ":data/" + relativePath;
+    }
+}
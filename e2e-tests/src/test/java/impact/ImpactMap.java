@@ -0,0 +1,136 @@
+package impact;
+
+import config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Which classes and methods each test exercised in its last run, persisted to impact.file between runs.
+ * Keys are "testClass#method" for test methods and the test class name for its class-level setup and teardown.
+ * A test that failed is marked incomplete, since it stopped before exercising everything it normally does.
+ */
+@Slf4j
+public class ImpactMap {
+
+    private static ImpactMap instance;
+
+    private final Path file;
+    private final Map<String, Entry> tests = new ConcurrentHashMap<>();
+
+    private ImpactMap(Path file) {
+        this.file = file;
+        load();
+    }
+
+    public static ImpactMap getInstance() {
+        if (instance == null) {
+            synchronized (ImpactMap.class) {
+                if (instance == null) {
+                    instance = new ImpactMap(Paths.get(TestConfig.getInstance().getImpactFile()));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Replace what a test exercised with the latest recording
+     * @param testId "testClass#method" or the test class name
+     * @param complete false if the test failed before finishing
+     */
+    public void record(String testId, Set<String> used, boolean complete) {
+        tests.put(testId, new Entry(new TreeSet<>(used), complete));
+    }
+
+    public Map<String, Entry> getTests() {
+        return tests;
+    }
+
+    /**
+     * Persist the map, keeping entries of tests that did not run this time
+     */
+    public synchronized void save() {
+        Map<String, Object> json = new TreeMap<>();
+        tests.forEach((testId, entry) -> {
+            Map<String, Object> entryJson = new LinkedHashMap<>();
+            entryJson.put("complete", entry.isComplete());
+            entryJson.put("uses", entry.getUses());
+            json.put(testId, entryJson);
+        });
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, new Json().toJson(json), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("❌ Failed to save test impact map to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            Map<String, Object> json = new Json().toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            for (Map.Entry<String, Object> test : json.entrySet()) {
+                Map<?, ?> entry = (Map<?, ?>) test.getValue();
+                Set<String> uses = new TreeSet<>();
+                for (Object use : (Collection<?>) entry.get("uses")) {
+                    uses.add(String.valueOf(use));
+                }
+                tests.put(test.getKey(), new Entry(uses, Boolean.TRUE.equals(entry.get("complete"))));
+            }
+            log.info("✅ Loaded test impact of {} tests from {}", tests.size(), file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ Failed to load test impact map from {}: {}", file, e.getMessage());
+        }
+    }
+
+    public static class Entry {
+        private final Set<String> uses;
+        private final boolean complete;
+
+        Entry(Set<String> uses, boolean complete) {
+            this.uses = uses;
+            this.complete = complete;
+        }
+
+        /**
+         * Get the exercised entries: "class#method" and bare page object class names
+         */
+        public Set<String> getUses() {
+            return uses;
+        }
+
+        public boolean isComplete() {
+            return complete;
+        }
+
+        /**
+         * Check if any of the given classes was exercised
+         */
+        public boolean usesAny(Set<String> classNames) {
+            for (String use : uses) {
+                int method = use.indexOf('#');
+                if (classNames.contains(method < 0 ? use : use.substring(0, method))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package impact;
+
+import config.TestConfig;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records which page objects, page methods, helper methods and driver classes the running test exercises.
+ * Page objects, helpers and driver managers call {@link #record()} at their choke points (element lookups,
+ * page waits, taps, typing, app lifecycle, session creation); the call stack up to the test method is then
+ * scanned for frames from the tracked packages. Recordings are per thread, started and collected by
+ * {@link extensions.ImpactRecordingExtension}.
+ *
+ * Entries are "class#method", plus the bare class name of the page object a call ran on, so inherited
+ * {@link pages.BasePage} methods still count for the concrete page.
+ */
+public class ImpactRecorder {
+
+    static final List<String> TRACKED_PACKAGES = List.of("pages.", "helpers.", "drivers.");
+
+    // Read on first use, so the package filter works without a test configuration
+    private static volatile Boolean enabled;
+    private static final StackWalker walker = StackWalker.getInstance();
+    private static final ThreadLocal<Set<String>> recording = new ThreadLocal<>();
+
+    public static boolean isEnabled() {
+        Boolean current = enabled;
+        if (current == null) {
+            current = TestConfig.getInstance().isImpactRecordingEnabled();
+            enabled = current;
+        }
+        return current;
+    }
+
+    /**
+     * Start a new recording on the current thread
+     * @return the recording it replaces, to hand back to {@link #end(Set)}, or null
+     */
+    public static Set<String> begin() {
+        Set<String> outer = recording.get();
+        if (isEnabled()) {
+            recording.set(new HashSet<>());
+        }
+        return outer;
+    }
+
+    /**
+     * Finish the current thread's recording and resume the one it replaced
+     * @return classes and methods exercised since {@link #begin()}
+     */
+    public static Set<String> end(Set<String> outer) {
+        Set<String> used = recording.get();
+        if (outer == null) {
+            recording.remove();
+        } else {
+            recording.set(outer);
+        }
+        return used == null ? Set.of() : used;
+    }
+
+    /**
+     * Record the tracked frames of the current call stack
+     */
+    public static void record() {
+        Set<String> used = recording.get();
+        if (used != null) {
+            walk(used);
+        }
+    }
+
+    /**
+     * Record the tracked frames of the current call stack and the page object they run on
+     */
+    public static void record(Class<?> pageClass) {
+        Set<String> used = recording.get();
+        if (used != null) {
+            used.add(topLevelClass(pageClass.getName()));
+            walk(used);
+        }
+    }
+
+    private static void walk(Set<String> used) {
+        walker.walk(frames -> {
+            frames.takeWhile(frame -> !frame.getClassName().startsWith("org.junit."))
+                    .filter(frame -> isTracked(frame.getClassName()))
+                    .forEach(frame -> used.add(topLevelClass(frame.getClassName()) + "#" + methodName(frame.getMethodName())));
+            return null;
+        });
+    }
+
+    static boolean isTracked(String className) {
+        for (String trackedPackage : TRACKED_PACKAGES) {
+            if (className.startsWith(trackedPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Changes are made per source file, so nested and anonymous classes count as their top-level class
+     */
+    static String topLevelClass(String className) {
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+
+    /**
+     * Lambdas compile to methods like lambda$loginWithDefaultCredentials$0; attribute them to the enclosing method
+     */
+    private static String methodName(String methodName) {
+        if (methodName.startsWith("lambda$")) {
+            int end = methodName.indexOf('$', "lambda$".length());
+            return end < 0 ? methodName : methodName.substring("lambda$".length(), end);
+        }
+        return methodName;
+    }
+}
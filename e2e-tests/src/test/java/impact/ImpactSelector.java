@@ -0,0 +1,191 @@
+package impact;
+
+import config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+import scheduling.ShardedSuiteRunner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selects the tests affected by the changes since impact.baseRef (committed, uncommitted and untracked files),
+ * using the {@link ImpactMap} recorded by earlier runs, and writes them to a filter file for the test tasks.
+ *
+ * A test is selected when it exercised a changed class under pages, helpers or drivers, when its own class
+ * changed, when its last run failed, or when it has never been recorded. Everything runs when shared
+ * infrastructure changes (any other source or resource, the build, the app itself), when a changed helper or
+ * driver class was not seen by any test, or when git cannot produce the diff.
+ *
+ * The filter file holds one "testClass" or "testClass#method" per line, or {@link #ALL}.
+ *
+ * Usage:
+ * - ./gradlew test -PimpactedOnly // Optionally -PimpactBase=origin/release
+ * - ./gradlew shardedTest -PimpactedOnly
+ */
+@Slf4j
+public class ImpactSelector {
+
+    public static final String ALL = "ALL";
+    private static final String SOURCE_ROOT = "src/test/java/";
+    private static final long GIT_TIMEOUT_SECONDS = 60;
+
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args.length > 0 ? args[0] : "build/impacted-tests.txt");
+        String baseRef = args.length > 1 && !args[1].isBlank() ? args[1] : TestConfig.getInstance().getImpactBaseRef();
+
+        List<String> selection;
+        try {
+            selection = select(changedFiles(baseRef));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Could not determine changes since {}, selecting all tests: {}", baseRef, e.getMessage());
+            selection = List.of(ALL);
+        }
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.write(output, selection, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a filter file written by this selector
+     * @return selected test classes and methods, or null if all tests should run
+     */
+    public static Set<String> readSelection(Path file) throws IOException {
+        Set<String> selection = new LinkedHashSet<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.trim().equals(ALL)) {
+                return null;
+            }
+            if (!line.isBlank()) {
+                selection.add(line.trim());
+            }
+        }
+        return selection;
+    }
+
+    static List<String> select(Set<String> changedFiles) {
+        Set<String> testClasses = new TreeSet<>();
+        ShardedSuiteRunner.discoverTestClasses(TestConfig.getInstance().getTestPackage())
+                .forEach(testClass -> testClasses.add(testClass.getName()));
+        return select(changedFiles, testClasses, ImpactMap.getInstance().getTests());
+    }
+
+    /**
+     * @param testClasses names of all test classes
+     * @param recorded impact map entries by test ID
+     */
+    static List<String> select(Set<String> changedFiles, Set<String> testClasses, Map<String, ImpactMap.Entry> recorded) {
+        Set<String> changedClasses = new TreeSet<>();
+        Set<String> changedTests = new TreeSet<>();
+        for (String path : changedFiles) {
+            if (path.endsWith(".md")) {
+                continue;
+            }
+            int sourceRoot = path.indexOf(SOURCE_ROOT);
+            if (sourceRoot < 0 || !path.endsWith(".java")) {
+                return selectAll("shared file " + path + " changed");
+            }
+            String className = path.substring(sourceRoot + SOURCE_ROOT.length(), path.length() - ".java".length()).replace('/', '.');
+            if (testClasses.contains(className)) {
+                changedTests.add(className);
+            } else if (ImpactRecorder.isTracked(className)) {
+                changedClasses.add(className);
+            } else {
+                return selectAll("shared class " + className + " changed");
+            }
+        }
+
+        for (String className : changedClasses) {
+            boolean seen = recorded.values().stream().anyMatch(entry -> entry.usesAny(Set.of(className)));
+            if (!seen && !className.startsWith("pages.")) {
+                return selectAll(className + " changed and no recorded test shows which tests use it");
+            }
+        }
+
+        Set<String> selection = new TreeSet<>(changedTests);
+        for (Map.Entry<String, ImpactMap.Entry> test : recorded.entrySet()) {
+            String testClass = test.getKey().contains("#") ? test.getKey().substring(0, test.getKey().indexOf('#')) : test.getKey();
+            if (!testClasses.contains(testClass) || selection.contains(testClass)) {
+                continue;
+            }
+            if (!test.getValue().isComplete() || test.getValue().usesAny(changedClasses)) {
+                // Class-level setup serves every test of the class
+                selection.add(test.getKey());
+            }
+        }
+        for (String testClass : testClasses) {
+            boolean known = recorded.keySet().stream().anyMatch(testId -> testId.equals(testClass) || testId.startsWith(testClass + "#"));
+            if (!known) {
+                selection.add(testClass);
+            }
+        }
+        selection.removeIf(testId -> testId.contains("#") && selection.contains(testId.substring(0, testId.indexOf('#'))));
+
+        log.info("🎯 {} changed classes, {} changed test classes: selected {}", changedClasses.size(), changedTests.size(),
+                selection.isEmpty() ? "no tests" : String.join(", ", selection));
+        return new ArrayList<>(selection);
+    }
+
+    private static List<String> selectAll(String reason) {
+        log.info("🎯 {}, selecting all tests", reason);
+        return List.of(ALL);
+    }
+
+    private static Set<String> changedFiles(String baseRef) {
+        Set<String> files = new TreeSet<>();
+        files.addAll(git("diff", "--name-only", baseRef + "...HEAD"));
+        files.addAll(git("diff", "--name-only", "HEAD"));
+        files.addAll(git("ls-files", "--others", "--exclude-standard", "--full-name"));
+        return files;
+    }
+
+    private static List<String> git(String... args) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(args));
+        Path outputFile = null;
+        try {
+            // Output goes to a file so a hung git cannot block the read past the timeout
+            outputFile = Files.createTempFile("git-output", ".txt");
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(outputFile.toFile())
+                    .start();
+            if (!process.waitFor(GIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new RuntimeException("❌ " + String.join(" ", command) + " did not finish within " + GIT_TIMEOUT_SECONDS + "s");
+            }
+            String output = new String(Files.readAllBytes(outputFile), StandardCharsets.UTF_8);
+            if (process.exitValue() != 0) {
+                throw new RuntimeException("❌ " + String.join(" ", command) + " failed: " + output.trim());
+            }
+            List<String> lines = new ArrayList<>();
+            for (String line : output.split("\n")) {
+                if (!line.isBlank()) {
+                    lines.add(line.trim());
+                }
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to run git: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("❌ Interrupted while running git", e);
+        } finally {
+            if (outputFile != null) {
+                outputFile.toFile().delete();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package impact;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImpactSelectorTest {
+
+    private static final String ROOT = "e2e-tests/src/test/java/";
+    private static final Set<String> TEST_CLASSES = Set.of("tests.LoginTest", "tests.BookingTest");
+    private static final Map<String, ImpactMap.Entry> RECORDED = Map.of(
+            "tests.LoginTest", entry(true, "pages.LoginPage", "drivers.DriverManager#initializeDriver"),
+            "tests.LoginTest#testLogin", entry(true, "pages.LoginPage#login", "helpers.AndroidActionsHelper#click"),
+            "tests.BookingTest", entry(true, "drivers.DriverManager#initializeDriver"),
+            "tests.BookingTest#testChooseGp", entry(true, "pages.HomePage#bookAnAppointment", "helpers.AndroidActionsHelper#click"),
+            "tests.BookingTest#testChooseSpecialist", entry(true, "pages.HomePage#bookAnAppointment"));
+
+    @Test
+    void selectsTestsThatUsedAChangedPage() {
+        assertEquals(List.of("tests.BookingTest#testChooseGp", "tests.BookingTest#testChooseSpecialist"),
+                select(ROOT + "pages/HomePage.java"));
+    }
+
+    @Test
+    void selectsTestsThatUsedAChangedHelper() {
+        assertEquals(List.of("tests.BookingTest#testChooseGp", "tests.LoginTest#testLogin"),
+                select(ROOT + "helpers/AndroidActionsHelper.java"));
+    }
+
+    @Test
+    void selectsWholeClassesWhenClassLevelSetupUsedTheChange() {
+        assertEquals(List.of("tests.BookingTest", "tests.LoginTest"),
+                select(ROOT + "drivers/DriverManager.java"));
+    }
+
+    @Test
+    void selectsAChangedTestClass() {
+        assertEquals(List.of("tests.LoginTest"), select(ROOT + "tests/LoginTest.java"));
+    }
+
+    @Test
+    void selectsNothingForAPageNoTestUses() {
+        assertEquals(List.of(), select(ROOT + "pages/ProfilePage.java", "README.md"));
+    }
+
+    @Test
+    void selectsAllForAHelperNoTestWasSeenUsing() {
+        assertEquals(List.of(ImpactSelector.ALL), select(ROOT + "helpers/GestureHelper.java"));
+    }
+
+    @Test
+    void selectsAllForSharedFiles() {
+        assertEquals(List.of(ImpactSelector.ALL), select("e2e-tests/build.gradle"));
+        assertEquals(List.of(ImpactSelector.ALL), select(ROOT + "config/TestConfig.java"));
+        assertEquals(List.of(ImpactSelector.ALL), select("mobile/lib/main.dart"));
+    }
+
+    @Test
+    void selectsIncompleteAndUnrecordedTests() {
+        Map<String, ImpactMap.Entry> recorded = Map.of(
+                "tests.LoginTest", entry(true),
+                "tests.LoginTest#testLogin", entry(false, "pages.LoginPage#login"));
+
+        assertEquals(List.of("tests.BookingTest", "tests.LoginTest#testLogin"),
+                ImpactSelector.select(Set.of(), TEST_CLASSES, recorded));
+    }
+
+    private static List<String> select(String... changedFiles) {
+        return ImpactSelector.select(Set.of(changedFiles), TEST_CLASSES, RECORDED);
+    }
+
+    private static ImpactMap.Entry entry(boolean complete, String... uses) {
+        return new ImpactMap.Entry(Set.of(uses), complete);
+    }
+}
@@ -0,0 +1,78 @@
+package load;
+
+import helpers.AppLifecycleHelper;
+import pages.HomePage;
+import pages.LoginPage;
+import pages.SingpassVerificationPage;
+import pages.appointment.AppointmentChooseGPPage;
+import pages.appointment.AppointmentChooseProviderPage;
+import state.AuthStateManager;
+
+import java.time.Duration;
+
+/**
+ * One iteration of the booking flow from SimpleAndroidE2ETest, timed step by step:
+ * fresh app → login → dismiss Singpass prompt → book an appointment → select GP provider type.
+ * Each step includes waiting for the screen it leads to, so backend response time is part of the step.
+ */
+public class BookingFlow {
+
+    // LOGIN already waited for the first screen after login, so this only tells the Singpass prompt from Home
+    private static final Duration SINGPASS_PROMPT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final LoadMetrics metrics;
+
+    public BookingFlow(LoadMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Run the flow once on the current thread's session
+     * @throws RuntimeException from the first failing step, after it has been recorded
+     */
+    public void run() {
+        long start = System.currentTimeMillis();
+        try {
+            step(FlowStep.RESET_APP, () -> {
+                new AppLifecycleHelper().resetApp();
+                new LoginPage().waitForPageLoad();
+            });
+            step(FlowStep.LOGIN, () -> {
+                new LoginPage().loginWithDefaultCredentials();
+                if (!AuthStateManager.waitForAuthenticatedScreen()) {
+                    throw new RuntimeException("❌ Login did not reach the Singpass prompt or the home page");
+                }
+            });
+            step(FlowStep.DISMISS_SINGPASS, () -> {
+                SingpassVerificationPage singpassPage = new SingpassVerificationPage();
+                if (singpassPage.isPageDisplayedWithin(SINGPASS_PROMPT_TIMEOUT)) {
+                    singpassPage.remindMeLater();
+                }
+                new HomePage().waitForPageLoad();
+            });
+            step(FlowStep.OPEN_BOOKING, () -> {
+                new HomePage().bookAnAppointment();
+                new AppointmentChooseProviderPage().waitForPageLoad();
+            });
+            step(FlowStep.SELECT_GP_PROVIDER, () -> {
+                new AppointmentChooseProviderPage().selectGPProviderType();
+                new AppointmentChooseGPPage().waitForPageLoad();
+            });
+            metrics.recordFlow(System.currentTimeMillis() - start, null);
+        } catch (RuntimeException e) {
+            metrics.recordFlow(System.currentTimeMillis() - start, e);
+            throw e;
+        }
+    }
+
+    private void step(FlowStep step, Runnable action) {
+        long start = System.currentTimeMillis();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            metrics.recordStep(step, System.currentTimeMillis() - start, e);
+            throw new RuntimeException("❌ Step '" + step.getCode() + "' failed: " + e.getMessage(), e);
+        }
+        metrics.recordStep(step, System.currentTimeMillis() - start, null);
+    }
+}
@@ -0,0 +1,22 @@
+package load;
+
+/**
+ * Timed steps of the booking flow replayed in load mode, in execution order
+ */
+public enum FlowStep {
+    RESET_APP("reset-app"),
+    LOGIN("login"),
+    DISMISS_SINGPASS("dismiss-singpass"),
+    OPEN_BOOKING("open-booking"),
+    SELECT_GP_PROVIDER("select-gp-provider");
+
+    private final String code;
+
+    FlowStep(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
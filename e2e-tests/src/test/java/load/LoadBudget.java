@@ -0,0 +1,31 @@
+package load;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared stop condition of a load run: a deadline and, optionally, a total number of iterations across all workers
+ */
+public class LoadBudget {
+
+    private final long deadlineMillis;
+    private final AtomicInteger remainingIterations;
+
+    /**
+     * @param iterations total iterations, or 0 to run until the deadline
+     */
+    public LoadBudget(long deadlineMillis, int iterations) {
+        this.deadlineMillis = deadlineMillis;
+        this.remainingIterations = iterations > 0 ? new AtomicInteger(iterations) : null;
+    }
+
+    /**
+     * Claim the next iteration
+     * @return false once the deadline passed or all iterations are claimed
+     */
+    public boolean tryStartIteration() {
+        if (System.currentTimeMillis() >= deadlineMillis) {
+            return false;
+        }
+        return remainingIterations == null || remainingIterations.getAndDecrement() > 0;
+    }
+}
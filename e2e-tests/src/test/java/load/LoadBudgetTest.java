@@ -0,0 +1,40 @@
+package load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadBudgetTest {
+
+    @Test
+    void handsOutExactlyTheConfiguredIterationsAcrossWorkers() throws InterruptedException {
+        LoadBudget budget = new LoadBudget(System.currentTimeMillis() + 60_000, 100);
+        AtomicInteger started = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                while (budget.tryStartIteration()) {
+                    started.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, started.get());
+    }
+
+    @Test
+    void stopsAtTheDeadline() {
+        assertTrue(new LoadBudget(System.currentTimeMillis() + 60_000, 0).tryStartIteration());
+        assertFalse(new LoadBudget(System.currentTimeMillis() - 1, 0).tryStartIteration());
+        assertFalse(new LoadBudget(System.currentTimeMillis() - 1, 10).tryStartIteration());
+    }
+}
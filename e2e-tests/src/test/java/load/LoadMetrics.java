@@ -0,0 +1,84 @@
+package load;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared metrics of a load run, written by all workers. Steps and whole flows are bucketed into windows of load.windowSeconds
+ * counted from the start of the run.
+ */
+public class LoadMetrics {
+
+    private static final String FLOW = "flow";
+
+    private final long startMillis;
+    private final long windowMillis;
+    private final Map<FlowStep, StepStats> steps = new EnumMap<>(FlowStep.class);
+    private final StepStats flows = new StepStats(FLOW);
+    private final ConcurrentSkipListMap<Integer, LongAdder> completedPerWindow = new ConcurrentSkipListMap<>();
+
+    public LoadMetrics(long startMillis, long windowMillis) {
+        this.startMillis = startMillis;
+        this.windowMillis = windowMillis;
+        for (FlowStep step : FlowStep.values()) {
+            steps.put(step, new StepStats(step.getCode()));
+        }
+    }
+
+    public void recordStep(FlowStep step, long durationMs, Throwable error) {
+        StepStats stats = steps.get(step);
+        if (error == null) {
+            stats.recordSuccess(currentWindow(), durationMs);
+        } else {
+            stats.recordError(currentWindow(), error);
+        }
+    }
+
+    public void recordFlow(long durationMs, Throwable error) {
+        int window = currentWindow();
+        if (error == null) {
+            flows.recordSuccess(window, durationMs);
+            completedPerWindow.computeIfAbsent(window, key -> new LongAdder()).increment();
+        } else {
+            flows.recordError(window, error);
+        }
+    }
+
+    public int currentWindow() {
+        return (int) ((System.currentTimeMillis() - startMillis) / windowMillis);
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public Collection<StepStats> getSteps() {
+        return steps.values();
+    }
+
+    public StepStats getFlows() {
+        return flows;
+    }
+
+    /**
+     * Get completed flows per window, including windows in which none completed, so stalls show up as zeros
+     * @param lastWindow last window of the run
+     */
+    public Map<Integer, Long> getCompletedPerWindow(int lastWindow) {
+        Map<Integer, Long> completed = new TreeMap<>();
+        int last = completedPerWindow.isEmpty() ? lastWindow : Math.max(lastWindow, completedPerWindow.lastKey());
+        for (int window = 0; window <= last; window++) {
+            LongAdder count = completedPerWindow.get(window);
+            completed.put(window, count == null ? 0L : count.sum());
+        }
+        return completed;
+    }
+}
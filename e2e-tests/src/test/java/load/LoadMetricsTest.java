@@ -0,0 +1,33 @@
+package load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LoadMetricsTest {
+
+    @Test
+    void reportsWindowsWithoutCompletedFlowsAsZero() {
+        LoadMetrics metrics = new LoadMetrics(System.currentTimeMillis() - 2_500, 1_000);
+        metrics.recordFlow(900, null);
+        metrics.recordFlow(950, null);
+        metrics.recordFlow(1_000, new IllegalStateException("stuck"));
+
+        assertEquals(Map.of(0, 0L, 1, 0L, 2, 2L, 3, 0L, 4, 0L), metrics.getCompletedPerWindow(4));
+        assertEquals(2, metrics.getFlows().getOverall().getCount());
+        assertEquals(1, metrics.getFlows().getErrors());
+    }
+
+    @Test
+    void recordsStepsUnderTheirOwnStats() {
+        LoadMetrics metrics = new LoadMetrics(System.currentTimeMillis(), 60_000);
+        FlowStep step = FlowStep.values()[0];
+        metrics.recordStep(step, 250, null);
+
+        for (StepStats stats : metrics.getSteps()) {
+            assertEquals(stats.getName().equals(step.getCode()) ? 1 : 0, stats.getOverall().getCount(), stats.getName());
+        }
+    }
+}
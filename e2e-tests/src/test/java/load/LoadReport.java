@@ -0,0 +1,133 @@
+package load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarises a load run: throughput, per-step latency percentiles, error rates and latency drift per window.
+ * Written as JSON to load.reportFile and logged as a table.
+ */
+@Slf4j
+public class LoadReport {
+
+    private static final double DRIFT_WARNING_RATIO = 1.5;
+
+    private final LoadMetrics metrics;
+    private final long elapsedMs;
+    private final int sessions;
+
+    public LoadReport(LoadMetrics metrics, long elapsedMs, int sessions) {
+        this.metrics = metrics;
+        this.elapsedMs = elapsedMs;
+        this.sessions = sessions;
+    }
+
+    /**
+     * Completed flows per minute over the whole run
+     */
+    public double getThroughputPerMinute() {
+        return elapsedMs == 0 ? 0 : metrics.getFlows().getOverall().getCount() * 60000.0 / elapsedMs;
+    }
+
+    public void write(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, new Json().toJson(toMap()), StandardCharsets.UTF_8);
+            log.info("📄 Load report written to {}", file);
+        } catch (IOException e) {
+            log.error("❌ Failed to write load report to {}: {}", file, e.getMessage());
+        }
+    }
+
+    public void logSummary() {
+        StepStats flows = metrics.getFlows();
+        log.info("📊 Load run: {} sessions, {}s, {} flows completed, {} failed, {} flows/min",
+                sessions, elapsedMs / 1000, flows.getOverall().getCount(), flows.getErrors(),
+                String.format("%.2f", getThroughputPerMinute()));
+        for (StepStats step : allStats()) {
+            LatencyHistogram latencies = step.getOverall();
+            log.info("   {} ok={} err={} ({}%) p50={}ms p95={}ms p99={}ms max={}ms drift(p95)=x{}",
+                    String.format("%-20s", step.getName()), latencies.getCount(), step.getErrors(),
+                    String.format("%.1f", step.getErrorRate() * 100),
+                    latencies.getPercentile(50), latencies.getPercentile(95), latencies.getPercentile(99),
+                    latencies.getMax(), String.format("%.2f", step.getP95Drift()));
+            if (step.getP95Drift() >= DRIFT_WARNING_RATIO) {
+                log.warn("⚠️ {} p95 grew x{} from the first to the last window", step.getName(),
+                        String.format("%.2f", step.getP95Drift()));
+            }
+        }
+    }
+
+    private List<StepStats> allStats() {
+        List<StepStats> all = new ArrayList<>(metrics.getSteps());
+        all.add(metrics.getFlows());
+        return all;
+    }
+
+    private Map<String, Object> toMap() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", metrics.getStartMillis());
+        report.put("elapsedMs", elapsedMs);
+        report.put("sessions", sessions);
+        report.put("windowSeconds", metrics.getWindowMillis() / 1000);
+        report.put("flowsCompleted", metrics.getFlows().getOverall().getCount());
+        report.put("flowsFailed", metrics.getFlows().getErrors());
+        report.put("throughputPerMinute", getThroughputPerMinute());
+
+        List<Map<String, Object>> throughput = new ArrayList<>();
+        int lastWindow = (int) (Math.max(0, elapsedMs - 1) / metrics.getWindowMillis());
+        metrics.getCompletedPerWindow(lastWindow).forEach((window, completed) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("window", window);
+            entry.put("flowsPerMinute", completed * 60000.0 / metrics.getWindowMillis());
+            throughput.add(entry);
+        });
+        report.put("throughputWindows", throughput);
+
+        Map<String, Object> steps = new LinkedHashMap<>();
+        for (StepStats step : allStats()) {
+            Map<String, Object> stats = latencies(step.getOverall());
+            stats.put("errors", step.getErrors());
+            stats.put("errorRate", step.getErrorRate());
+            Map<String, Long> errorTypes = new LinkedHashMap<>();
+            step.getErrorTypes().forEach((type, count) -> errorTypes.put(type, count.sum()));
+            stats.put("errorTypes", errorTypes);
+            stats.put("p95Drift", step.getP95Drift());
+
+            List<Map<String, Object>> windows = new ArrayList<>();
+            step.getWindows().forEach((index, window) -> {
+                Map<String, Object> entry = latencies(window.getLatencies());
+                entry.put("window", index);
+                entry.put("errors", window.getErrors());
+                windows.add(entry);
+            });
+            stats.put("windows", windows);
+            steps.put(step.getName(), stats);
+        }
+        report.put("steps", steps);
+        return report;
+    }
+
+    private static Map<String, Object> latencies(LatencyHistogram histogram) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", histogram.getCount());
+        stats.put("meanMs", histogram.getMean());
+        stats.put("p50Ms", histogram.getPercentile(50));
+        stats.put("p90Ms", histogram.getPercentile(90));
+        stats.put("p95Ms", histogram.getPercentile(95));
+        stats.put("p99Ms", histogram.getPercentile(99));
+        stats.put("maxMs", histogram.getMax());
+        return stats;
+    }
+}
@@ -0,0 +1,50 @@
+package load;
+
+import config.TestConfig;
+import drivers.Device;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point for load and soak runs against the booking backend.
+ * Replays {@link BookingFlow} concurrently, one session per configured device, each with its own leased account,
+ * for load.durationMinutes or until load.iterations flows were started in total.
+ * Without android.devices / ios.devices a single session runs on the device from test-config.properties.
+ *
+ * Usage:
+ * - ./gradlew loadTest // report in build/reports/load/load-report.json
+ */
+@Slf4j
+public class LoadRunner {
+
+    public static void main(String[] args) throws InterruptedException {
+        TestConfig config = TestConfig.getInstance();
+        List<Device> devices = Device.configuredDevices();
+        int sessions = Math.max(1, devices.size());
+
+        long start = System.currentTimeMillis();
+        long deadline = start + TimeUnit.MINUTES.toMillis(config.getLoadDurationMinutes());
+        LoadBudget budget = new LoadBudget(deadline, config.getLoadIterations());
+        LoadMetrics metrics = new LoadMetrics(start, TimeUnit.SECONDS.toMillis(config.getLoadWindowSeconds()));
+        log.info("🚦 Starting load run: {} sessions, {} minutes, {} iterations",
+                sessions, config.getLoadDurationMinutes(),
+                config.getLoadIterations() > 0 ? config.getLoadIterations() : "unlimited");
+
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        for (int i = 0; i < sessions; i++) {
+            executor.submit(new LoadWorker(i, devices.isEmpty() ? null : devices.get(i), budget, metrics));
+        }
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+        LoadReport report = new LoadReport(metrics, System.currentTimeMillis() - start, sessions);
+        report.logSummary();
+        report.write(Paths.get(config.getLoadReportFile()));
+        System.exit(metrics.getFlows().getOverall().getCount() > 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,87 @@
+package load;
+
+import accounts.AccountPool;
+import drivers.Device;
+import drivers.DeviceContext;
+import drivers.DriverManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replays the booking flow on one device with its own leased account until the budget is used up.
+ * A failed iteration is recorded and the loop continues; if the session itself died it is recreated first.
+ */
+@Slf4j
+public class LoadWorker implements Runnable {
+
+    private final int index;
+    private final Device device;
+    private final LoadBudget budget;
+    private final BookingFlow flow;
+
+    /**
+     * @param device device to bind, or null to use the device from test-config.properties
+     */
+    public LoadWorker(int index, Device device, LoadBudget budget, LoadMetrics metrics) {
+        this.index = index;
+        this.device = device;
+        this.budget = budget;
+        this.flow = new BookingFlow(metrics);
+    }
+
+    @Override
+    public void run() {
+        Thread.currentThread().setName("load-" + index + (device != null ? "-" + device.getUdid() : ""));
+        if (device != null) {
+            DeviceContext.set(device);
+        }
+        int iterations = 0;
+        int failures = 0;
+        try {
+            AccountPool.leaseForCurrentThread();
+            DriverManager.initializeDriver();
+            while (budget.tryStartIteration()) {
+                iterations++;
+                AccountPool.renewCurrentThread();
+                try {
+                    flow.run();
+                } catch (RuntimeException e) {
+                    failures++;
+                    log.warn("⚠️ Iteration {} failed: {}", iterations, e.getMessage());
+                    if (!isSessionAlive()) {
+                        recreateSession();
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ Load worker {} stopped: {}", index, e.getMessage());
+        } finally {
+            quitQuietly();
+            AccountPool.releaseCurrentThread();
+            DeviceContext.clear();
+            log.info("🏁 Load worker {} finished {} iterations, {} failed", index, iterations, failures);
+        }
+    }
+
+    private boolean isSessionAlive() {
+        try {
+            DriverManager.getDriver().manage().timeouts().getImplicitWaitTimeout();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void recreateSession() {
+        log.warn("🔁 Session on worker {} is gone, creating a new one", index);
+        quitQuietly();
+        DriverManager.initializeDriver();
+    }
+
+    private void quitQuietly() {
+        try {
+            DriverManager.quitDriver();
+        } catch (RuntimeException e) {
+            log.debug("Ignoring failure to quit session: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package load;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and errors of one flow step, overall and per time window so drift across a run is visible
+ */
+public class StepStats {
+
+    private final String name;
+    private final LatencyHistogram overall = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final ConcurrentSkipListMap<Integer, Window> windows = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errorTypes = new ConcurrentHashMap<>();
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    void recordSuccess(int window, long durationMs) {
+        overall.record(durationMs);
+        window(window).latencies.record(durationMs);
+    }
+
+    void recordError(int window, Throwable error) {
+        errors.increment();
+        window(window).errors.increment();
+        errorTypes.computeIfAbsent(error.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    private Window window(int index) {
+        return windows.computeIfAbsent(index, key -> new Window());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyHistogram getOverall() {
+        return overall;
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getErrorRate() {
+        long attempts = overall.getCount() + getErrors();
+        return attempts == 0 ? 0 : (double) getErrors() / attempts;
+    }
+
+    public Map<Integer, Window> getWindows() {
+        return windows;
+    }
+
+    public Map<String, LongAdder> getErrorTypes() {
+        return errorTypes;
+    }
+
+    /**
+     * Ratio of the last window's p95 to the first window's p95; above 1 means the step got slower during the run
+     * @return ratio, or 1 when fewer than two windows have samples
+     */
+    public double getP95Drift() {
+        Window first = null;
+        Window last = null;
+        for (Window window : windows.values()) {
+            if (window.latencies.getCount() == 0) {
+                continue;
+            }
+            if (first == null) {
+                first = window;
+            }
+            last = window;
+        }
+        if (first == null || first == last || first.latencies.getPercentile(95) == 0) {
+            return 1;
+        }
+        return (double) last.latencies.getPercentile(95) / first.latencies.getPercentile(95);
+    }
+
+    public static class Window {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package load;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StepStatsTest {
+
+    @Test
+    void countsErrorsByTypeAndWindow() {
+        StepStats stats = new StepStats("login");
+        stats.recordSuccess(0, 100);
+        stats.recordSuccess(0, 120);
+        stats.recordError(0, new TimeoutException());
+        stats.recordError(1, new TimeoutException());
+        stats.recordError(1, new IOException());
+
+        assertEquals(3, stats.getErrors());
+        assertEquals(0.6, stats.getErrorRate(), 1e-9);
+        assertEquals(2, stats.getErrorTypes().get("TimeoutException").sum());
+        assertEquals(1, stats.getErrorTypes().get("IOException").sum());
+        assertEquals(1, stats.getWindows().get(0).getErrors());
+        assertEquals(2, stats.getWindows().get(1).getErrors());
+    }
+
+    @Test
+    void p95DriftComparesTheLastWindowWithSamplesToTheFirst() {
+        StepStats stats = new StepStats("book");
+        for (int i = 0; i < 100; i++) {
+            stats.recordSuccess(0, 100);
+            stats.recordSuccess(2, 200);
+        }
+        stats.recordError(3, new IOException());
+
+        double drift = stats.getP95Drift();
+
+        assertEquals(2.0, drift, 0.1);
+    }
+
+    @Test
+    void p95DriftIsNeutralWithOneWindow() {
+        StepStats stats = new StepStats("book");
+        stats.recordSuccess(0, 100);
+
+        assertEquals(1.0, stats.getP95Drift());
+        assertEquals(1.0, new StepStats("empty").getP95Drift());
+    }
+}
@@ -0,0 +1,32 @@
+package locators;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Top-left position of a template window in a frame and its match score
+ */
+final class Candidate {
+
+    final int x;
+    final int y;
+    final double score;
+
+    Candidate(int x, int y, double score) {
+        this.x = x;
+        this.y = y;
+        this.score = score;
+    }
+
+    /**
+     * Keep the best candidates of both lists
+     */
+    static List<Candidate> best(List<Candidate> first, List<Candidate> second, int keep) {
+        List<Candidate> merged = new ArrayList<>(first.size() + second.size());
+        merged.addAll(first);
+        merged.addAll(second);
+        merged.sort(Comparator.comparingDouble((Candidate candidate) -> candidate.score).reversed());
+        return merged.size() > keep ? new ArrayList<>(merged.subList(0, keep)) : merged;
+    }
+}
@@ -0,0 +1,113 @@
+package locators;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Grayscale image with lazily built integral tables for constant-time window sums
+ */
+final class GrayImage {
+
+    final int width;
+    final int height;
+    final float[] pixels;
+    private volatile double[][] integrals;
+
+    GrayImage(int width, int height, float[] pixels) {
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+
+    static GrayImage decode(byte[] imageBytes) {
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to decode image: " + e.getMessage(), e);
+        }
+        if (image == null) {
+            throw new RuntimeException("❌ Unsupported image format");
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] rgb = image.getRGB(0, 0, width, height, null, 0, width);
+        float[] gray = new float[rgb.length];
+        for (int i = 0; i < rgb.length; i++) {
+            int pixel = rgb[i];
+            gray[i] = 0.299f * ((pixel >> 16) & 0xff) + 0.587f * ((pixel >> 8) & 0xff) + 0.114f * (pixel & 0xff);
+        }
+        return new GrayImage(width, height, gray);
+    }
+
+    /**
+     * Resample by averaging the source pixels that fall into each target pixel
+     */
+    GrayImage resize(int newWidth, int newHeight) {
+        if (newWidth == width && newHeight == height) {
+            return this;
+        }
+        double scaleX = (double) width / newWidth;
+        double scaleY = (double) height / newHeight;
+        float[] resized = new float[newWidth * newHeight];
+        for (int y = 0; y < newHeight; y++) {
+            int y0 = (int) (y * scaleY);
+            int y1 = Math.max(y0 + 1, Math.min(height, (int) ((y + 1) * scaleY)));
+            for (int x = 0; x < newWidth; x++) {
+                int x0 = (int) (x * scaleX);
+                int x1 = Math.max(x0 + 1, Math.min(width, (int) ((x + 1) * scaleX)));
+                float sum = 0;
+                for (int sy = y0; sy < y1; sy++) {
+                    int row = sy * width;
+                    for (int sx = x0; sx < x1; sx++) {
+                        sum += pixels[row + sx];
+                    }
+                }
+                resized[y * newWidth + x] = sum / ((y1 - y0) * (x1 - x0));
+            }
+        }
+        return new GrayImage(newWidth, newHeight, resized);
+    }
+
+    GrayImage scale(double factor) {
+        return resize(Math.max(1, (int) Math.round(width * factor)), Math.max(1, (int) Math.round(height * factor)));
+    }
+
+    double windowSum(int x, int y, int w, int h) {
+        return rect(integrals()[0], x, y, w, h);
+    }
+
+    double windowSumOfSquares(int x, int y, int w, int h) {
+        return rect(integrals()[1], x, y, w, h);
+    }
+
+    private double rect(double[] table, int x, int y, int w, int h) {
+        int stride = width + 1;
+        return table[(y + h) * stride + x + w] - table[y * stride + x + w] - table[(y + h) * stride + x] + table[y * stride + x];
+    }
+
+    private double[][] integrals() {
+        double[][] tables = integrals;
+        if (tables == null) {
+            int stride = width + 1;
+            double[] sum = new double[stride * (height + 1)];
+            double[] sumSq = new double[stride * (height + 1)];
+            for (int y = 0; y < height; y++) {
+                double rowSum = 0;
+                double rowSumSq = 0;
+                for (int x = 0; x < width; x++) {
+                    double value = pixels[y * width + x];
+                    rowSum += value;
+                    rowSumSq += value * value;
+                    sum[(y + 1) * stride + x + 1] = sum[y * stride + x + 1] + rowSum;
+                    sumSq[(y + 1) * stride + x + 1] = sumSq[y * stride + x + 1] + rowSumSq;
+                }
+            }
+            tables = new double[][]{sum, sumSq};
+            integrals = tables;
+        }
+        return tables;
+    }
+}
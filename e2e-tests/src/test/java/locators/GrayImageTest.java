@@ -0,0 +1,33 @@
+package locators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GrayImageTest {
+
+    private static final GrayImage IMAGE = new GrayImage(4, 3, new float[]{
+            1, 2, 3, 4,
+            5, 6, 7, 8,
+            9, 10, 11, 12});
+
+    @Test
+    void windowSumsMatchTheirPixels() {
+        assertEquals(1 + 2 + 5 + 6, IMAGE.windowSum(0, 0, 2, 2));
+        assertEquals(7 + 8 + 11 + 12, IMAGE.windowSum(2, 1, 2, 2));
+        assertEquals(78, IMAGE.windowSum(0, 0, 4, 3));
+        assertEquals(6 * 6 + 7 * 7, IMAGE.windowSumOfSquares(1, 1, 2, 1));
+    }
+
+    @Test
+    void downscalingAveragesSourcePixels() {
+        GrayImage half = IMAGE.resize(2, 1);
+
+        assertEquals(2, half.width);
+        assertEquals(1, half.height);
+        assertEquals((1 + 2 + 5 + 6 + 9 + 10) / 6f, half.pixels[0]);
+        assertEquals((3 + 4 + 7 + 8 + 11 + 12) / 6f, half.pixels[1]);
+        assertSame(IMAGE, IMAGE.scale(1.0));
+    }
+}
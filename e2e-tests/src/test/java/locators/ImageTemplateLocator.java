@@ -0,0 +1,143 @@
+package locators;
+
+import config.TestConfig;
+import drivers.DriverManager;
+import io.appium.java_client.AppiumDriver;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import streaming.Frame;
+import streaming.ScreenStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Finds widgets without usable accessibility semantics by matching reference images against a screenshot.
+ * One screenshot (or live stream frame, see {@link ScreenStream}) is taken per call and every requested
+ * template is resolved from it. The frame is converted
+ * to grayscale and downscaled to template.workingWidth, then each template is searched at every scale in
+ * template.scales in parallel with normalized cross-correlation, coarse-to-fine.
+ *
+ * Templates are PNG crops of a screenshot taken at template.referenceWidth pixels wide, stored as
+ * src/test/resources/templates/&lt;name&gt;.png.
+ *
+ * Usage:
+ * - new ImageTemplateLocator().find("book_an_appointment"); // Tap point in viewport coordinates, if found
+ * - new ImageTemplateLocator().findAll(List.of("a", "b")); // Both resolved from one screenshot
+ */
+@Slf4j
+public class ImageTemplateLocator {
+
+    private static final String TEMPLATE_DIR = "templates/";
+    private static final Duration STREAM_FRAME_TIMEOUT = Duration.ofMillis(500);
+    private static final Map<String, GrayImage> templates = new ConcurrentHashMap<>();
+
+    private final TestConfig config = TestConfig.getInstance();
+
+    /**
+     * Check if a reference image exists for the template
+     */
+    public static boolean hasTemplate(String name) {
+        return ImageTemplateLocator.class.getClassLoader().getResource(TEMPLATE_DIR + name + ".png") != null;
+    }
+
+    public Optional<TemplateMatch> find(String template) {
+        return findAll(List.of(template)).get(template);
+    }
+
+    /**
+     * Locate several templates on the current screen from a single screenshot
+     * @return match per template, empty when no window scored above template.threshold
+     */
+    public Map<String, Optional<TemplateMatch>> findAll(Collection<String> templateNames) {
+        AppiumDriver driver = DriverManager.getDriver();
+        long start = System.currentTimeMillis();
+        byte[] screenshot = captureScreen(driver, start);
+        int viewportWidth = driver.manage().window().getSize().getWidth();
+        Map<String, Optional<TemplateMatch>> matches = match(screenshot, viewportWidth, templateNames);
+        log.debug("Template search for {} took {} ms: {}", templateNames, System.currentTimeMillis() - start, matches);
+        return matches;
+    }
+
+    /**
+     * Match templates against a screenshot
+     * @param viewportWidth width of the viewport the screenshot covers, used to convert pixels to tap coordinates
+     */
+    public Map<String, Optional<TemplateMatch>> match(byte[] screenshot, int viewportWidth, Collection<String> templateNames) {
+        GrayImage captured = GrayImage.decode(screenshot);
+        int workingWidth = Math.min(captured.width, config.getTemplateWorkingWidth());
+        GrayImage frame = captured.scale((double) workingWidth / captured.width);
+        double baseScale = (double) frame.width / config.getTemplateReferenceWidth();
+        Map<Integer, GrayImage> coarseFrames = new ConcurrentHashMap<>();
+
+        Map<String, List<ScaleSearchTask>> tasks = new LinkedHashMap<>();
+        List<ScaleSearchTask> all = new ArrayList<>();
+        for (String name : templateNames) {
+            GrayImage template = loadTemplate(name);
+            List<ScaleSearchTask> perScale = new ArrayList<>();
+            for (String scale : config.getTemplateScales()) {
+                perScale.add(new ScaleSearchTask(frame, coarseFrames, template, baseScale * Double.parseDouble(scale)));
+            }
+            tasks.put(name, perScale);
+            all.addAll(perScale);
+        }
+        ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(all)));
+
+        double threshold = config.getTemplateThreshold();
+        double toViewport = (double) viewportWidth / frame.width;
+        Map<String, Optional<TemplateMatch>> matches = new LinkedHashMap<>();
+        tasks.forEach((name, perScale) -> {
+            TemplateMatch best = null;
+            for (ScaleSearchTask task : perScale) {
+                Candidate candidate = task.join();
+                if (candidate == null || candidate.score < threshold || (best != null && candidate.score <= best.getScore())) {
+                    continue;
+                }
+                Point center = new Point(
+                        (int) Math.round((candidate.x + task.getTemplateWidth() / 2.0) * toViewport),
+                        (int) Math.round((candidate.y + task.getTemplateHeight() / 2.0) * toViewport));
+                best = new TemplateMatch(name, center, candidate.score, task.getTemplateScale() / baseScale);
+            }
+            matches.put(name, Optional.ofNullable(best));
+        });
+        return matches;
+    }
+
+    /**
+     * Use a stream frame captured after this call started if the screen stream is live, otherwise a screenshot
+     */
+    private static byte[] captureScreen(AppiumDriver driver, long since) {
+        ScreenStream stream = DriverManager.getScreenStream();
+        if (stream != null) {
+            Frame frame = stream.awaitFrameAfter(since, STREAM_FRAME_TIMEOUT);
+            if (frame != null) {
+                return frame.copyJpeg();
+            }
+        }
+        return driver.getScreenshotAs(OutputType.BYTES);
+    }
+
+    private static GrayImage loadTemplate(String name) {
+        return templates.computeIfAbsent(name, key -> {
+            try (InputStream in = ImageTemplateLocator.class.getClassLoader().getResourceAsStream(TEMPLATE_DIR + key + ".png")) {
+                if (in == null) {
+                    throw new RuntimeException("❌ Template image '" + TEMPLATE_DIR + key + ".png' not found in classpath");
+                }
+                return GrayImage.decode(in.readAllBytes());
+            } catch (IOException e) {
+                throw new RuntimeException("❌ Failed to read template '" + key + "': " + e.getMessage(), e);
+            }
+        });
+    }
+}
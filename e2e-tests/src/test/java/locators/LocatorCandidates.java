@@ -0,0 +1,144 @@
+package locators;
+
+import config.TestConfig;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates alternative locators for an element from its own attributes, and converts locators
+ * to and from their wire form (strategy and value) for reports
+ */
+class LocatorCandidates {
+
+    // Long descriptions are also tried as a prefix match, which is cheaper to compare and survives copy edits
+    private static final int PREFIX_LENGTH = 40;
+
+    static List<By> generate(WebElement element, TestConfig.Platform platform) {
+        return platform == TestConfig.Platform.IOS ? generateIos(element) : generateAndroid(element);
+    }
+
+    private static List<By> generateAndroid(WebElement element) {
+        String description = attribute(element, "content-desc");
+        String resourceId = attribute(element, "resource-id");
+        String className = attribute(element, "class");
+        String text = attribute(element, "text");
+        String node = className.isEmpty() ? "*" : className;
+
+        List<By> candidates = new ArrayList<>();
+        if (!description.isEmpty()) {
+            candidates.add(AppiumBy.accessibilityId(description));
+        }
+        if (!resourceId.isEmpty()) {
+            candidates.add(AppiumBy.id(resourceId));
+            addXpath(candidates, node, "@resource-id", resourceId);
+        }
+        if (description.length() > PREFIX_LENGTH) {
+            String prefix = description.substring(0, PREFIX_LENGTH);
+            if (canQuote(prefix)) {
+                candidates.add(By.xpath("//" + node + "[starts-with(@content-desc, " + quote(prefix) + ")]"));
+            }
+        } else if (!description.isEmpty()) {
+            addXpath(candidates, node, "@content-desc", description);
+        }
+        if (!text.isEmpty()) {
+            addXpath(candidates, node, "@text", text);
+        }
+        if (!className.isEmpty()) {
+            candidates.add(AppiumBy.className(className));
+        }
+        return candidates;
+    }
+
+    private static List<By> generateIos(WebElement element) {
+        String name = attribute(element, "name");
+        String label = attribute(element, "label");
+        String type = attribute(element, "type");
+
+        List<By> candidates = new ArrayList<>();
+        if (!name.isEmpty()) {
+            candidates.add(AppiumBy.accessibilityId(name));
+            if (!type.isEmpty()) {
+                candidates.add(AppiumBy.iOSClassChain("**/" + type + "[`name == \"" + escapePredicate(name) + "\"`]"));
+            }
+        }
+        if (!label.isEmpty() && !label.equals(name)) {
+            candidates.add(AppiumBy.iOSNsPredicateString("label == \"" + escapePredicate(label) + "\""));
+        }
+        if (!type.isEmpty()) {
+            candidates.add(AppiumBy.iOSClassChain("**/" + type));
+        }
+        return candidates;
+    }
+
+    /**
+     * Get the wire form of a locator, e.g. "accessibility id=Log in"
+     */
+    static String describe(By locator) {
+        if (locator instanceof By.Remotable) {
+            return using(locator) + "=" + value(locator);
+        }
+        return locator.toString();
+    }
+
+    /**
+     * Rebuild a locator from its wire form
+     * @return locator, or null for strategies that are never suggested
+     */
+    static By fromWire(String using, String value) {
+        switch (using) {
+            case "accessibility id":
+                return AppiumBy.accessibilityId(value);
+            case "id":
+                return AppiumBy.id(value);
+            case "class name":
+                return AppiumBy.className(value);
+            case "xpath":
+                return By.xpath(value);
+            case "-ios class chain":
+                return AppiumBy.iOSClassChain(value);
+            case "-ios predicate string":
+                return AppiumBy.iOSNsPredicateString(value);
+            default:
+                return null;
+        }
+    }
+
+    static String using(By locator) {
+        return ((By.Remotable) locator).getRemoteParameters().using();
+    }
+
+    static String value(By locator) {
+        return String.valueOf(((By.Remotable) locator).getRemoteParameters().value());
+    }
+
+    private static void addXpath(List<By> candidates, String node, String attribute, String value) {
+        if (canQuote(value)) {
+            candidates.add(By.xpath("//" + node + "[" + attribute + "=" + quote(value) + "]"));
+        }
+    }
+
+    private static boolean canQuote(String value) {
+        return !(value.contains("'") && value.contains("\""));
+    }
+
+    private static String quote(String value) {
+        return value.contains("'") ? "\"" + value + "\"" : "'" + value + "'";
+    }
+
+    private static String escapePredicate(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String attribute(WebElement element, String name) {
+        try {
+            String value = element.getAttribute(name);
+            return value == null || "null".equals(value) ? "" : value;
+        } catch (RuntimeException e) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package locators;
+
+import config.TestConfig;
+import io.appium.java_client.AppiumBy;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocatorCandidatesTest {
+
+    @Test
+    void generatesAndroidLocatorsFromAttributes() {
+        WebElement element = element(Map.of(
+                "content-desc", "Log in",
+                "resource-id", "com.example:id/login",
+                "class", "android.widget.Button",
+                "text", "Log in"));
+
+        List<By> candidates = LocatorCandidates.generate(element, TestConfig.Platform.ANDROID);
+
+        assertEquals(List.of(
+                AppiumBy.accessibilityId("Log in"),
+                AppiumBy.id("com.example:id/login"),
+                By.xpath("//android.widget.Button[@resource-id='com.example:id/login']"),
+                By.xpath("//android.widget.Button[@content-desc='Log in']"),
+                By.xpath("//android.widget.Button[@text='Log in']"),
+                AppiumBy.className("android.widget.Button")), candidates);
+    }
+
+    @Test
+    void matchesLongDescriptionsByPrefixAndQuotesApostrophes() {
+        String description = "Don't miss your appointment reminder for the GP visit tomorrow";
+        WebElement element = element(Map.of("content-desc", description, "class", "android.view.View"));
+
+        List<By> candidates = LocatorCandidates.generate(element, TestConfig.Platform.ANDROID);
+
+        assertTrue(candidates.contains(By.xpath("//android.view.View[starts-with(@content-desc, \""
+                + description.substring(0, 40) + "\")]")), candidates.toString());
+    }
+
+    @Test
+    void generatesIosLocatorsWithEscapedPredicates() {
+        WebElement element = element(Map.of("name", "login", "label", "Say \"hi\"", "type", "XCUIElementTypeButton"));
+
+        List<By> candidates = LocatorCandidates.generate(element, TestConfig.Platform.IOS);
+
+        assertEquals(List.of(
+                AppiumBy.accessibilityId("login"),
+                AppiumBy.iOSClassChain("**/XCUIElementTypeButton[`name == \"login\"`]"),
+                AppiumBy.iOSNsPredicateString("label == \"Say \\\"hi\\\"\""),
+                AppiumBy.iOSClassChain("**/XCUIElementTypeButton")), candidates);
+    }
+
+    @Test
+    void wireFormRoundTrips() {
+        By locator = AppiumBy.accessibilityId("Log in");
+
+        assertEquals("accessibility id=Log in", LocatorCandidates.describe(locator));
+        assertEquals(locator, LocatorCandidates.fromWire(LocatorCandidates.using(locator), LocatorCandidates.value(locator)));
+        assertNull(LocatorCandidates.fromWire("-android uiautomator", "new UiSelector()"));
+    }
+
+    private static WebElement element(Map<String, String> attributes) {
+        return (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(), new Class<?>[]{WebElement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getAttribute")) {
+                        return attributes.get((String) args[0]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,60 @@
+package locators;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Timings of a page object locator and of the equivalent strategies generated from the element it found
+ */
+public class LocatorProfile {
+
+    // A replacement is only suggested when it is clearly cheaper, not within measurement noise
+    private static final double MAX_COST_RATIO = 0.8;
+
+    private final String page;
+    private final String name;
+    private final LocatorTiming original;
+    private final List<LocatorTiming> alternatives;
+
+    LocatorProfile(String page, String name, LocatorTiming original, List<LocatorTiming> alternatives) {
+        this.page = page;
+        this.name = name;
+        this.original = original;
+        this.alternatives = alternatives.stream()
+                .sorted(Comparator.comparingDouble(LocatorTiming::getMedianMs))
+                .collect(Collectors.toList());
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocatorTiming getOriginal() {
+        return original;
+    }
+
+    /**
+     * Get the generated strategies, cheapest first
+     */
+    public List<LocatorTiming> getAlternatives() {
+        return alternatives;
+    }
+
+    /**
+     * Get the cheapest equivalent strategy that beats the original
+     * @return timing of the replacement, or null if the original is already the best choice
+     */
+    public LocatorTiming getSuggestion() {
+        for (LocatorTiming alternative : alternatives) {
+            if (alternative.isEquivalent()) {
+                return alternative.getMedianMs() <= original.getMedianMs() * MAX_COST_RATIO ? alternative : null;
+            }
+        }
+        return null;
+    }
+}
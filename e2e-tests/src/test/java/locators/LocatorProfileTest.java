@@ -0,0 +1,36 @@
+package locators;
+
+import io.appium.java_client.AppiumBy;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LocatorProfileTest {
+
+    private static final LocatorTiming ORIGINAL = new LocatorTiming(By.xpath("//*[@text='Log in']"), 100, 1, true);
+
+    @Test
+    void suggestsTheCheapestEquivalentThatIsClearlyFaster() {
+        LocatorTiming ambiguous = new LocatorTiming(AppiumBy.className("android.widget.Button"), 10, 3, false);
+        LocatorTiming id = new LocatorTiming(AppiumBy.id("login"), 40, 1, true);
+        LocatorTiming accessibilityId = new LocatorTiming(AppiumBy.accessibilityId("Log in"), 20, 1, true);
+
+        LocatorProfile profile = new LocatorProfile("LoginPage", "Log in Button", ORIGINAL, List.of(id, ambiguous, accessibilityId));
+
+        assertEquals(List.of(ambiguous, accessibilityId, id), profile.getAlternatives());
+        assertSame(accessibilityId, profile.getSuggestion());
+    }
+
+    @Test
+    void keepsTheOriginalWhenNoAlternativeIsClearlyFaster() {
+        LocatorTiming slightlyFaster = new LocatorTiming(AppiumBy.accessibilityId("Log in"), 90, 1, true);
+        LocatorTiming otherElement = new LocatorTiming(AppiumBy.id("signup"), 5, 1, false);
+
+        assertNull(new LocatorProfile("LoginPage", "Log in Button", ORIGINAL, List.of(slightlyFaster, otherElement)).getSuggestion());
+    }
+}
@@ -0,0 +1,292 @@
+package locators;
+
+import config.TestConfig;
+import drivers.DriverManager;
+import io.appium.java_client.AppiumDriver;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidArgumentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures what page object locators cost on the real screen and finds cheaper equivalents.
+ *
+ * With locator.profile, the first time each page object locator finds an element, the locator and the
+ * alternatives generated from that element's attributes (accessibility id, resource-id, short xpaths,
+ * class chains) are each timed locator.profileSamples times with the implicit wait off. Alternatives
+ * that resolve to exactly the same element are candidates. When the run ends, locator.reportFile lists every page's
+ * locators from most to least expensive, with the suggested replacement.
+ *
+ * With locator.optimize, lookups use the suggested replacement, either from profiling in this run or from an earlier
+ * report. A replacement from a report is checked against the original locator on its first use in the run. If the
+ * replacement finds a different element or stops finding one, the lookup falls back to the original locator.
+ *
+ * Usage:
+ * - LocatorProfiler.find(driver, getClass(), locator, "Login Button"); // Through BasePage.find
+ */
+@Slf4j
+public class LocatorProfiler {
+
+    private static final boolean profiling = TestConfig.getInstance().isLocatorProfilingEnabled();
+    private static final boolean optimizing = TestConfig.getInstance().isLocatorOptimizationEnabled();
+    private static final Map<String, LocatorProfile> profiles = new ConcurrentHashMap<>();
+    private static final Map<String, By> substitutes = new ConcurrentHashMap<>();
+    private static final Set<String> profiledKeys = ConcurrentHashMap.newKeySet();
+    private static final Set<String> verifiedKeys = ConcurrentHashMap.newKeySet();
+    private static final List<String> IDENTIFYING_ATTRIBUTES = List.of(
+            "class", "resource-id", "content-desc", "text", "type", "name", "label", "value");
+
+    static {
+        if (optimizing) {
+            loadSubstitutes();
+        }
+        if (profiling) {
+            Runtime.getRuntime().addShutdownHook(new Thread(LocatorProfiler::writeReport, "locator-profiler"));
+        }
+    }
+
+    /**
+     * Find an element for a page object, profiling or substituting the locator when enabled
+     * @param pageClass page object the locator belongs to
+     * @param name element name, unique within the page
+     */
+    public static WebElement find(AppiumDriver driver, Class<?> pageClass, By locator, String name) {
+        if (!profiling && !optimizing) {
+            return driver.findElement(locator);
+        }
+
+        String key = DriverManager.getCurrentPlatform() + ":" + pageClass.getSimpleName() + "/" + name;
+        By substitute = optimizing ? substitutes.get(key) : null;
+        if (substitute != null) {
+            try {
+                WebElement element = driver.findElement(substitute);
+                if (verifiedKeys.contains(key)) {
+                    return element;
+                }
+                WebElement original = driver.findElement(locator);
+                if (isSameElement(element, original)) {
+                    verifiedKeys.add(key);
+                    return element;
+                }
+                log.warn("⚠️ Faster locator for {} finds a different element, using {}", key, LocatorCandidates.describe(locator));
+                substitutes.remove(key, substitute);
+                return original;
+            } catch (NoSuchElementException e) {
+                log.warn("⚠️ Faster locator for {} no longer matches, using {}", key, LocatorCandidates.describe(locator));
+                substitutes.remove(key, substitute);
+            }
+        }
+
+        WebElement element = driver.findElement(locator);
+        if (profiling && profiledKeys.add(key)) {
+            profile(driver, key, pageClass.getSimpleName(), name, locator, element);
+        }
+        return element;
+    }
+
+    private static void profile(AppiumDriver driver, String key, String page, String name, By locator, WebElement element) {
+        TestConfig config = TestConfig.getInstance();
+        long start = System.currentTimeMillis();
+        try {
+            List<By> candidates = LocatorCandidates.generate(element, DriverManager.getCurrentPlatform());
+            String originalWire = LocatorCandidates.describe(locator);
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            try {
+                LocatorTiming original = time(driver, locator, element, config.getLocatorProfileSamples());
+                List<LocatorTiming> alternatives = new ArrayList<>();
+                for (By candidate : candidates) {
+                    if (!LocatorCandidates.describe(candidate).equals(originalWire)) {
+                        alternatives.add(time(driver, candidate, element, config.getLocatorProfileSamples()));
+                    }
+                }
+                LocatorProfile profile = new LocatorProfile(page, name, original, alternatives);
+                profiles.put(key, profile);
+                LocatorTiming suggestion = profile.getSuggestion();
+                if (suggestion != null && optimizing) {
+                    substitutes.put(key, suggestion.getLocator());
+                    verifiedKeys.add(key);
+                }
+                log.info("⏱️ Profiled {} in {} ms: {} ms{}", key, System.currentTimeMillis() - start,
+                        format(original.getMedianMs()), suggestion == null ? ""
+                                : ", " + LocatorCandidates.describe(suggestion.getLocator()) + " takes " + format(suggestion.getMedianMs()) + " ms");
+            } finally {
+                driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
+            }
+        } catch (WebDriverException e) {
+            log.warn("⚠️ Could not profile locator {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static LocatorTiming time(AppiumDriver driver, By locator, WebElement element, int samples) {
+        double[] durations = new double[samples];
+        List<WebElement> found = List.of();
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            try {
+                found = driver.findElements(locator);
+            } catch (WebDriverException e) {
+                // Strategies the driver rejects count as no match
+                found = List.of();
+            }
+            durations[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(durations);
+        boolean sameElement = found.size() == 1 && isSameElement(found.get(0), element);
+        return new LocatorTiming(locator, durations[samples / 2], found.size(), sameElement);
+    }
+
+    private static boolean isSameElement(WebElement candidate, WebElement element) {
+        if (candidate.equals(element)) {
+            return true;
+        }
+        // Some drivers hand out a new element id per lookup. Nested Flutter semantics nodes often share their
+        // bounds, so the class and identifying attributes have to match as well as position and size.
+        try {
+            if (!candidate.getRect().equals(element.getRect())) {
+                return false;
+            }
+            for (String attribute : IDENTIFYING_ATTRIBUTES) {
+                if (!Objects.equals(attributeOf(candidate, attribute), attributeOf(element, attribute))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Attributes one platform does not know count as absent rather than as a mismatch
+     */
+    private static String attributeOf(WebElement element, String attribute) {
+        try {
+            return element.getAttribute(attribute);
+        } catch (UnsupportedCommandException | InvalidArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void loadSubstitutes() {
+        Path file = Paths.get(TestConfig.getInstance().getLocatorReportFile());
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            List<Map<String, Object>> pages = new Json().toType(Files.readString(file, StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE);
+            for (Map<String, Object> page : pages) {
+                for (Object entry : (List<?>) page.get("locators")) {
+                    Map<?, ?> locator = (Map<?, ?>) entry;
+                    Map<?, ?> suggestion = (Map<?, ?>) locator.get("suggestion");
+                    if (suggestion == null) {
+                        continue;
+                    }
+                    By substitute = LocatorCandidates.fromWire((String) suggestion.get("using"), (String) suggestion.get("value"));
+                    if (substitute != null) {
+                        substitutes.put(page.get("platform") + ":" + page.get("page") + "/" + locator.get("name"), substitute);
+                    }
+                }
+            }
+            log.info("⏱️ Loaded {} faster locators from {}", substitutes.size(), file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ Could not read locator report {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static void writeReport() {
+        if (profiles.isEmpty()) {
+            return;
+        }
+        Map<String, List<Map.Entry<String, LocatorProfile>>> byPage = new TreeMap<>();
+        for (Map.Entry<String, LocatorProfile> entry : profiles.entrySet()) {
+            String pageKey = entry.getKey().substring(0, entry.getKey().indexOf('/'));
+            byPage.computeIfAbsent(pageKey, k -> new ArrayList<>()).add(entry);
+        }
+
+        List<Map<String, Object>> pages = new ArrayList<>();
+        for (Map.Entry<String, List<Map.Entry<String, LocatorProfile>>> page : byPage.entrySet()) {
+            List<Map.Entry<String, LocatorProfile>> ranked = page.getValue();
+            ranked.sort(Comparator.comparingDouble((Map.Entry<String, LocatorProfile> entry) ->
+                    entry.getValue().getOriginal().getMedianMs()).reversed());
+
+            List<Map<String, Object>> locators = new ArrayList<>();
+            log.info("⏱️ {}", page.getKey());
+            for (Map.Entry<String, LocatorProfile> entry : ranked) {
+                LocatorProfile profile = entry.getValue();
+                LocatorTiming suggestion = profile.getSuggestion();
+                Map<String, Object> json = new LinkedHashMap<>();
+                json.put("name", profile.getName());
+                json.put("locator", LocatorCandidates.describe(profile.getOriginal().getLocator()));
+                json.put("medianMs", round(profile.getOriginal().getMedianMs()));
+                json.put("matches", profile.getOriginal().getMatches());
+                List<Map<String, Object>> alternatives = new ArrayList<>();
+                for (LocatorTiming alternative : profile.getAlternatives()) {
+                    Map<String, Object> alternativeJson = new LinkedHashMap<>();
+                    alternativeJson.put("locator", LocatorCandidates.describe(alternative.getLocator()));
+                    alternativeJson.put("medianMs", round(alternative.getMedianMs()));
+                    alternativeJson.put("matches", alternative.getMatches());
+                    alternativeJson.put("equivalent", alternative.isEquivalent());
+                    alternatives.add(alternativeJson);
+                }
+                json.put("alternatives", alternatives);
+                if (suggestion != null) {
+                    Map<String, Object> suggestionJson = new LinkedHashMap<>();
+                    suggestionJson.put("using", LocatorCandidates.using(suggestion.getLocator()));
+                    suggestionJson.put("value", LocatorCandidates.value(suggestion.getLocator()));
+                    suggestionJson.put("medianMs", round(suggestion.getMedianMs()));
+                    json.put("suggestion", suggestionJson);
+                }
+                locators.add(json);
+                log.info("⏱️   {} ms  {}  {}{}", format(profile.getOriginal().getMedianMs()), profile.getName(),
+                        json.get("locator"), suggestion == null ? ""
+                                : "  → " + LocatorCandidates.describe(suggestion.getLocator()) + " (" + format(suggestion.getMedianMs()) + " ms)");
+            }
+
+            String[] platformAndPage = page.getKey().split(":", 2);
+            Map<String, Object> pageJson = new LinkedHashMap<>();
+            pageJson.put("platform", platformAndPage[0]);
+            pageJson.put("page", platformAndPage[1]);
+            pageJson.put("locators", locators);
+            pages.add(pageJson);
+        }
+
+        Path file = Paths.get(TestConfig.getInstance().getLocatorReportFile());
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, new Json().toJson(pages), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("❌ Failed to write locator report to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static double round(double ms) {
+        return Math.round(ms * 10) / 10.0;
+    }
+
+    private static String format(double ms) {
+        return String.format("%.1f", ms);
+    }
+}
@@ -0,0 +1,40 @@
+package locators;
+
+import org.openqa.selenium.By;
+
+/**
+ * Median lookup cost of one locator on the live screen, and whether it resolves to exactly the profiled element
+ */
+public class LocatorTiming {
+
+    private final By locator;
+    private final double medianMs;
+    private final int matches;
+    private final boolean sameElement;
+
+    LocatorTiming(By locator, double medianMs, int matches, boolean sameElement) {
+        this.locator = locator;
+        this.medianMs = medianMs;
+        this.matches = matches;
+        this.sameElement = sameElement;
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    public double getMedianMs() {
+        return medianMs;
+    }
+
+    public int getMatches() {
+        return matches;
+    }
+
+    /**
+     * Check if the locator can replace the profiled one: a single match that is the same element
+     */
+    public boolean isEquivalent() {
+        return matches == 1 && sameElement;
+    }
+}
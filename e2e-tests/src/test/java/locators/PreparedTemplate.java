@@ -0,0 +1,52 @@
+package locators;
+
+/**
+ * Template resized to one search scale, stored zero-mean with its norm precomputed for normalized cross-correlation
+ */
+final class PreparedTemplate {
+
+    final int width;
+    final int height;
+    final float[] values;
+    final double norm;
+
+    PreparedTemplate(GrayImage image) {
+        this.width = image.width;
+        this.height = image.height;
+        int n = width * height;
+        double mean = 0;
+        for (float pixel : image.pixels) {
+            mean += pixel;
+        }
+        mean /= n;
+        this.values = new float[n];
+        double sumSq = 0;
+        for (int i = 0; i < n; i++) {
+            values[i] = (float) (image.pixels[i] - mean);
+            sumSq += values[i] * values[i];
+        }
+        this.norm = Math.sqrt(sumSq);
+    }
+
+    /**
+     * Normalized cross-correlation with the frame window at (x, y)
+     * @return -1 to 1, or 0 for flat windows or templates
+     */
+    double score(GrayImage frame, int x, int y) {
+        int n = width * height;
+        double sum = frame.windowSum(x, y, width, height);
+        double variance = frame.windowSumOfSquares(x, y, width, height) - sum * sum / n;
+        if (variance <= 1e-6 || norm == 0) {
+            return 0;
+        }
+        double cross = 0;
+        for (int j = 0; j < height; j++) {
+            int row = (y + j) * frame.width + x;
+            int templateRow = j * width;
+            for (int i = 0; i < width; i++) {
+                cross += frame.pixels[row + i] * values[templateRow + i];
+            }
+        }
+        return cross / (Math.sqrt(variance) * norm);
+    }
+}
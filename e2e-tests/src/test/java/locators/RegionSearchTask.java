@@ -0,0 +1,52 @@
+package locators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Exhaustive template search over a band of rows, split in halves until bands are small enough to scan directly
+ */
+final class RegionSearchTask extends RecursiveTask<List<Candidate>> {
+
+    private static final long serialVersionUID = 1L;
+    private static final int MIN_ROWS = 16;
+
+    private final GrayImage frame;
+    private final PreparedTemplate template;
+    private final int fromRow;
+    private final int toRow;
+    private final int keep;
+
+    RegionSearchTask(GrayImage frame, PreparedTemplate template, int fromRow, int toRow, int keep) {
+        this.frame = frame;
+        this.template = template;
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+        this.keep = keep;
+    }
+
+    @Override
+    protected List<Candidate> compute() {
+        if (toRow - fromRow > MIN_ROWS) {
+            int middle = (fromRow + toRow) >>> 1;
+            RegionSearchTask top = new RegionSearchTask(frame, template, fromRow, middle, keep);
+            RegionSearchTask bottom = new RegionSearchTask(frame, template, middle, toRow, keep);
+            top.fork();
+            List<Candidate> bottomBest = bottom.compute();
+            return Candidate.best(top.join(), bottomBest, keep);
+        }
+
+        List<Candidate> best = new ArrayList<>();
+        int lastColumn = frame.width - template.width;
+        for (int y = fromRow; y < toRow; y++) {
+            for (int x = 0; x <= lastColumn; x++) {
+                double score = template.score(frame, x, y);
+                if (best.size() < keep || score > best.get(best.size() - 1).score) {
+                    best = Candidate.best(best, List.of(new Candidate(x, y, score)), keep);
+                }
+            }
+        }
+        return best;
+    }
+}
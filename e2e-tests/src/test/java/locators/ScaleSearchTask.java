@@ -0,0 +1,84 @@
+package locators;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Searches one template at one scale: a full scan on a coarser copy of the frame,
+ * then a refinement around the best coarse hits on the working frame
+ */
+final class ScaleSearchTask extends RecursiveTask<Candidate> {
+
+    private static final long serialVersionUID = 1L;
+    private static final int COARSE_CANDIDATES = 3;
+    private static final int MIN_COARSE_TEMPLATE_SIZE = 8;
+    private static final int MAX_COARSE_FACTOR = 4;
+
+    private final GrayImage frame;
+    private final Map<Integer, GrayImage> coarseFrames;
+    private final GrayImage template;
+    private final double templateScale;
+
+    /**
+     * @param coarseFrames downscaled copies of the frame by factor, shared between tasks of one capture
+     * @param templateScale factor that brings the reference template to the working frame resolution
+     */
+    ScaleSearchTask(GrayImage frame, Map<Integer, GrayImage> coarseFrames, GrayImage template, double templateScale) {
+        this.frame = frame;
+        this.coarseFrames = coarseFrames;
+        this.template = template;
+        this.templateScale = templateScale;
+    }
+
+    double getTemplateScale() {
+        return templateScale;
+    }
+
+    /**
+     * @return best match on the working frame, or null if the template does not fit at this scale
+     */
+    @Override
+    protected Candidate compute() {
+        GrayImage scaled = template.scale(templateScale);
+        if (scaled.width > frame.width || scaled.height > frame.height || scaled.width < 2 || scaled.height < 2) {
+            return null;
+        }
+        PreparedTemplate working = new PreparedTemplate(scaled);
+
+        int factor = Math.max(1, Math.min(MAX_COARSE_FACTOR,
+                Math.min(scaled.width, scaled.height) / MIN_COARSE_TEMPLATE_SIZE));
+        GrayImage coarseFrame = coarseFrames.computeIfAbsent(factor, key -> frame.scale(1.0 / key));
+        PreparedTemplate coarse = new PreparedTemplate(template.scale(templateScale / factor));
+        if (coarse.width > coarseFrame.width || coarse.height > coarseFrame.height) {
+            return null;
+        }
+        List<Candidate> hits = new RegionSearchTask(coarseFrame, coarse, 0,
+                coarseFrame.height - coarse.height + 1, COARSE_CANDIDATES).invoke();
+
+        Candidate best = null;
+        for (Candidate hit : hits) {
+            int fromX = Math.max(0, hit.x * factor - factor);
+            int fromY = Math.max(0, hit.y * factor - factor);
+            int toX = Math.min(frame.width - working.width, hit.x * factor + factor);
+            int toY = Math.min(frame.height - working.height, hit.y * factor + factor);
+            for (int y = fromY; y <= toY; y++) {
+                for (int x = fromX; x <= toX; x++) {
+                    double score = working.score(frame, x, y);
+                    if (best == null || score > best.score) {
+                        best = new Candidate(x, y, score);
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    int getTemplateWidth() {
+        return (int) Math.round(template.width * templateScale);
+    }
+
+    int getTemplateHeight() {
+        return (int) Math.round(template.height * templateScale);
+    }
+}
@@ -0,0 +1,85 @@
+package locators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Searches synthetic screens made of flat rectangles, the way app widgets look in grayscale
+ */
+class ScaleSearchTaskTest {
+
+    private static final GrayImage SCREEN = screen(320, 480, 42);
+
+    @Test
+    void findsAnExactCropAtItsPosition() {
+        GrayImage template = crop(SCREEN, 150, 210, 48, 32);
+
+        Candidate match = new ScaleSearchTask(SCREEN, new ConcurrentHashMap<>(), template, 1.0).invoke();
+
+        assertNotNull(match);
+        assertEquals(150, match.x);
+        assertEquals(210, match.y);
+        assertTrue(match.score > 0.99, "score " + match.score);
+    }
+
+    @Test
+    void findsATemplateCapturedAtAnotherResolution() {
+        GrayImage template = crop(SCREEN.resize(640, 960), 300, 420, 96, 64);
+
+        Candidate match = new ScaleSearchTask(SCREEN, new ConcurrentHashMap<>(), template, 0.5).invoke();
+
+        assertNotNull(match);
+        assertTrue(Math.abs(match.x - 150) <= 1 && Math.abs(match.y - 210) <= 1, "found at " + match.x + "," + match.y);
+        assertTrue(match.score > 0.95, "score " + match.score);
+    }
+
+    @Test
+    void skipsScalesWhereTheTemplateDoesNotFit() {
+        GrayImage template = crop(SCREEN, 0, 0, 200, 100);
+
+        assertNull(new ScaleSearchTask(SCREEN, new ConcurrentHashMap<>(), template, 2.0).invoke());
+    }
+
+    @Test
+    void flatWindowsScoreZero() {
+        GrayImage flat = new GrayImage(20, 20, new float[400]);
+        PreparedTemplate template = new PreparedTemplate(crop(SCREEN, 150, 210, 8, 8));
+
+        assertEquals(0, template.score(flat, 4, 4));
+    }
+
+    private static GrayImage screen(int width, int height, long seed) {
+        Random random = new Random(seed);
+        float[] pixels = new float[width * height];
+        Arrays.fill(pixels, 200);
+        for (int i = 0; i < 60; i++) {
+            int w = 10 + random.nextInt(60);
+            int h = 6 + random.nextInt(40);
+            int x0 = random.nextInt(width - w);
+            int y0 = random.nextInt(height - h);
+            float gray = random.nextInt(256);
+            for (int y = y0; y < y0 + h; y++) {
+                for (int x = x0; x < x0 + w; x++) {
+                    pixels[y * width + x] = gray;
+                }
+            }
+        }
+        return new GrayImage(width, height, pixels);
+    }
+
+    private static GrayImage crop(GrayImage image, int x0, int y0, int width, int height) {
+        float[] pixels = new float[width * height];
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(image.pixels, (y0 + y) * image.width + x0, pixels, y * width, width);
+        }
+        return new GrayImage(width, height, pixels);
+    }
+}
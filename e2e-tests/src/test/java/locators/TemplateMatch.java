@@ -0,0 +1,42 @@
+package locators;
+
+import org.openqa.selenium.Point;
+
+/**
+ * Where a template was found, as a tap point in viewport coordinates
+ */
+public class TemplateMatch {
+
+    private final String template;
+    private final Point center;
+    private final double score;
+    private final double scale;
+
+    public TemplateMatch(String template, Point center, double score, double scale) {
+        this.template = template;
+        this.center = center;
+        this.score = score;
+        this.scale = scale;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public Point getCenter() {
+        return center;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    @Override
+    public String toString() {
+        return template + " at " + center + String.format(" (score %.3f, scale %.2f)", score, scale);
+    }
+}
@@ -0,0 +1,96 @@
+package logging;
+
+import config.TestConfig;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Structured, asynchronous event log for the test hot path.
+ *
+ * Each thread records into its own lock-free ring buffer; a background writer drains all buffers into
+ * {@code <log.dir>/events-<runId>.jsonl}, tagging every line with the Appium session and test IDs of the
+ * recording thread. Recording only copies references into a preallocated slot - formatting and I/O
+ * happen on the writer thread. Set {@code log.verbose=true} to also mirror events to the console.
+ *
+ * Usage:
+ * - EventLog.info(EventType.CLICK, "Login Button"); // Records an event
+ * - EventLog.bindSession(sessionId); // Tags subsequent events of this thread with the session
+ * - EventLog.bindTest(testId); // Tags subsequent events of this thread with the test
+ */
+public final class EventLog {
+
+    private static final List<EventRingBuffer> buffers = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<EventRingBuffer> bufferThreadLocal = ThreadLocal.withInitial(EventLog::register);
+    private static final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    private static volatile EventLogWriter writer;
+    private static int bufferSize;
+
+    private EventLog() {
+    }
+
+    public static void info(EventType type, String subject) {
+        bufferThreadLocal.get().offer(LogEvent.Level.INFO, type, subject, null);
+    }
+
+    public static void info(EventType type, String subject, Object detail) {
+        bufferThreadLocal.get().offer(LogEvent.Level.INFO, type, subject, detail);
+    }
+
+    public static void error(EventType type, String subject, Object detail) {
+        bufferThreadLocal.get().offer(LogEvent.Level.ERROR, type, subject, detail);
+        EventLogWriter w = writer;
+        if (w != null) {
+            w.wakeUp();
+        }
+    }
+
+    /**
+     * Tag subsequent events recorded by the current thread with an Appium session ID
+     */
+    public static void bindSession(String sessionId) {
+        bufferThreadLocal.get().sessionId = sessionId;
+    }
+
+    /**
+     * Tag subsequent events recorded by the current thread with a test ID
+     */
+    public static void bindTest(String testId) {
+        bufferThreadLocal.get().testId = testId;
+    }
+
+    /**
+     * Get the ID shared by every event file line of this JVM run
+     */
+    public static String getRunId() {
+        return runId;
+    }
+
+    private static EventRingBuffer register() {
+        ensureWriterStarted();
+        EventRingBuffer buffer = new EventRingBuffer(bufferSize, Thread.currentThread());
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    private static void ensureWriterStarted() {
+        if (writer == null) {
+            synchronized (EventLog.class) {
+                if (writer == null) {
+                    TestConfig config = TestConfig.getInstance();
+                    bufferSize = config.getEventLogBufferSize();
+                    Path file = Paths.get(config.getEventLogDir(), "events-" + runId + ".jsonl");
+                    EventLogWriter w = new EventLogWriter(buffers, file, runId,
+                            config.isVerboseLogging(), config.getEventLogFlushIntervalMs());
+                    w.start();
+                    Runtime.getRuntime().addShutdownHook(new Thread(w::stop, "event-log-shutdown"));
+                    writer = w;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package logging;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background thread that drains every per-thread ring buffer into a line-delimited JSON file
+ * and, when verbose output is on, into the human-readable console log.
+ */
+@Slf4j
+final class EventLogWriter implements Runnable {
+
+    private final List<EventRingBuffer> buffers;
+    private final Path file;
+    private final String runId;
+    private final boolean verbose;
+    private final long flushIntervalNanos;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private volatile boolean running = true;
+    private volatile Thread thread;
+    private BufferedWriter writer;
+
+    EventLogWriter(List<EventRingBuffer> buffers, Path file, String runId, boolean verbose, long flushIntervalMs) {
+        this.buffers = buffers;
+        this.file = file;
+        this.runId = runId;
+        this.verbose = verbose;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+    }
+
+    void start() {
+        Thread t = new Thread(this, "event-log-writer");
+        t.setDaemon(true);
+        thread = t;
+        t.start();
+    }
+
+    /**
+     * Stop the writer and wait for the final drain
+     */
+    void stop() {
+        running = false;
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+            try {
+                t.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    void wakeUp() {
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            Files.createDirectories(file.getParent());
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("❌ Failed to open event log {}: {}", file, e.getMessage());
+        }
+
+        while (running) {
+            if (drainAll() == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        drainAll();
+        close();
+    }
+
+    private int drainAll() {
+        int total = 0;
+        for (EventRingBuffer buffer : buffers) {
+            total += buffer.drain(event -> write(event, buffer.getThreadName()));
+            long dropped = buffer.takeDropped();
+            if (dropped > 0) {
+                log.warn("⚠️ Event buffer for thread {} overflowed, {} events dropped", buffer.getThreadName(), dropped);
+            }
+            if (!buffer.isOwnerAlive() && buffer.isEmpty()) {
+                buffers.remove(buffer);
+            }
+        }
+        if (total > 0) {
+            flush();
+        }
+        return total;
+    }
+
+    private void write(LogEvent event, String threadName) {
+        if (verbose || event.level == LogEvent.Level.ERROR) {
+            writeConsole(event);
+        }
+        if (writer == null) {
+            return;
+        }
+        line.setLength(0);
+        line.append("{\"ts\":").append(event.timestamp);
+        line.append(",\"lvl\":\"").append(event.level.name()).append('"');
+        line.append(",\"ev\":\"").append(event.type.getCode()).append('"');
+        appendField("thr", threadName);
+        appendField("run", runId);
+        appendField("sid", event.sessionId);
+        appendField("tid", event.testId);
+        appendField("subj", event.subject);
+        appendField("detail", event.detail == null ? null : String.valueOf(event.detail));
+        line.append('}').append('\n');
+        try {
+            writer.append(line);
+        } catch (IOException e) {
+            log.error("❌ Failed to write event log: {}", e.getMessage());
+            writer = null;
+        }
+    }
+
+    private void writeConsole(LogEvent event) {
+        String template = event.type.getConsoleTemplate();
+        if (event.level == LogEvent.Level.ERROR) {
+            log.error(template, event.subject, event.detail);
+        } else {
+            log.info(template, event.subject, event.detail);
+        }
+    }
+
+    private void appendField(String name, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+        line.append('"');
+    }
+
+    private void flush() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            log.error("❌ Failed to flush event log: {}", e.getMessage());
+        }
+    }
+
+    private void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.error("❌ Failed to close event log: {}", e.getMessage());
+        }
+    }
+}
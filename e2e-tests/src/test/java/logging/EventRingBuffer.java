@@ -0,0 +1,94 @@
+package logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Single-producer / single-consumer ring buffer owned by one test thread.
+ * The owning thread records events, the background writer drains them. No locks on either side:
+ * the producer publishes a slot by advancing {@code tail}, the consumer frees it by advancing {@code head}.
+ * When the buffer is full the event is dropped and counted rather than blocking the test.
+ */
+final class EventRingBuffer {
+
+    private final LogEvent[] slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread owner;
+    private final String threadName;
+
+    // Per-thread context, only written by the owning thread
+    String sessionId;
+    String testId;
+
+    EventRingBuffer(int capacity, Thread owner) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+        this.slots = new LogEvent[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new LogEvent();
+        }
+        this.mask = size - 1;
+        this.owner = owner;
+        this.threadName = owner.getName();
+    }
+
+    /**
+     * Record an event. Called only by the owning thread.
+     * @return false if the buffer was full and the event was dropped
+     */
+    boolean offer(LogEvent.Level level, EventType type, String subject, Object detail) {
+        long t = tail.get();
+        if (t - head.get() >= slots.length) {
+            dropped.increment();
+            return false;
+        }
+        LogEvent event = slots[(int) (t & mask)];
+        event.timestamp = System.currentTimeMillis();
+        event.level = level;
+        event.type = type;
+        event.subject = subject;
+        event.detail = detail;
+        event.sessionId = sessionId;
+        event.testId = testId;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Hand every published event to the consumer. Called only by the writer thread.
+     * @return number of events drained
+     */
+    int drain(Consumer<LogEvent> consumer) {
+        long h = head.get();
+        long t = tail.get();
+        int count = 0;
+        while (h < t) {
+            LogEvent event = slots[(int) (h & mask)];
+            consumer.accept(event);
+            event.clear();
+            h++;
+            count++;
+        }
+        head.lazySet(h);
+        return count;
+    }
+
+    long takeDropped() {
+        return dropped.sumThenReset();
+    }
+
+    boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    boolean isOwnerAlive() {
+        return owner.isAlive();
+    }
+
+    String getThreadName() {
+        return threadName;
+    }
+}
@@ -0,0 +1,87 @@
+package logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventRingBufferTest {
+
+    @Test
+    void roundsCapacityUpToAPowerOfTwo() {
+        EventRingBuffer buffer = new EventRingBuffer(5, Thread.currentThread());
+
+        int accepted = 0;
+        while (buffer.offer(LogEvent.Level.INFO, EventType.CLICK, "event " + accepted, null)) {
+            accepted++;
+        }
+
+        assertEquals(8, accepted);
+    }
+
+    @Test
+    void dropsAndCountsEventsWhileFull() {
+        EventRingBuffer buffer = new EventRingBuffer(4, Thread.currentThread());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(LogEvent.Level.INFO, EventType.CLICK, "event " + i, null));
+        }
+
+        assertFalse(buffer.offer(LogEvent.Level.INFO, EventType.CLICK, "dropped 1", null));
+        assertFalse(buffer.offer(LogEvent.Level.ERROR, EventType.CLICK, "dropped 2", null));
+
+        assertEquals(2, buffer.takeDropped());
+        assertEquals(0, buffer.takeDropped());
+        assertEquals(List.of("event 0", "event 1", "event 2", "event 3"), drain(buffer));
+    }
+
+    @Test
+    void keepsOrderAndContextAcrossWraparound() {
+        EventRingBuffer buffer = new EventRingBuffer(4, Thread.currentThread());
+        buffer.sessionId = "session";
+        buffer.testId = "test";
+        List<String> drained = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.offer(LogEvent.Level.INFO, EventType.CLICK, "event " + i, i));
+            if (i % 3 == 2) {
+                buffer.drain(event -> {
+                    assertEquals("session", event.sessionId);
+                    assertEquals("test", event.testId);
+                    drained.add(event.subject);
+                });
+            }
+        }
+        drained.addAll(drain(buffer));
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expected.add("event " + i);
+        }
+        assertEquals(expected, drained);
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.takeDropped());
+    }
+
+    @Test
+    void clearsSlotsAfterDraining() {
+        EventRingBuffer buffer = new EventRingBuffer(2, Thread.currentThread());
+        buffer.offer(LogEvent.Level.INFO, EventType.CLICK, "event", "detail");
+        List<LogEvent> slots = new ArrayList<>();
+
+        buffer.drain(slots::add);
+
+        assertEquals(1, slots.size());
+        assertEquals(null, slots.get(0).subject);
+        assertEquals(null, slots.get(0).detail);
+    }
+
+    private static List<String> drain(EventRingBuffer buffer) {
+        List<String> subjects = new ArrayList<>();
+        buffer.drain(event -> subjects.add(event.subject));
+        return subjects;
+    }
+}
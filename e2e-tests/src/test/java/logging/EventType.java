@@ -0,0 +1,52 @@
+package logging;
+
+/**
+ * Structured events emitted on the test hot path.
+ * Each event has a compact code for the JSON log and a template for the optional console sink.
+ */
+public enum EventType {
+
+    CLICK("click", "🔘 Clicking {}..."),
+    CLICKED("click.ok", "✅ Successfully clicked {}"),
+    CLICK_FAILED("click.fail", "❌ Failed to click {}: {}"),
+
+    TAP("tap", "👆 Tapping {} by coordinates..."),
+    TAP_POINT("tap.point", "   - Element {} coordinates: {}"),
+    TAPPED("tap.ok", "✅ Successfully tapped {}"),
+    TAP_FAILED("tap.fail", "❌ Failed to tap {}: {}"),
+
+    TEMPLATE_MATCH("template.ok", "🖼️ Found {} by image template: {}"),
+    TEMPLATE_MISS("template.miss", "🖼️ {} not found by image template, using fallback: {}"),
+
+    TYPE("type", "⌨️ Entering text in {}..."),
+    TYPED("type.ok", "✅ Successfully entered text in {}"),
+    TYPE_FAILED("type.fail", "❌ Failed to enter text in {}: {}"),
+
+    KEYBOARD_CLOSE("keyboard.close", "🔽 Closing keyboard if open..."),
+    KEYBOARD_CLOSED("keyboard.closed", "✅ Keyboard closed (if it was open)"),
+    KEYBOARD_NOT_OPEN("keyboard.none", "ℹ️ Keyboard was not open, nothing to close."),
+
+    SCREENSHOT("screenshot", "📸 Screenshot saved: {}"),
+    SCREENSHOT_FAILED("screenshot.fail", "❌ Failed to take screenshot: {}"),
+
+    PAGE_WAIT("page.wait", "📱 Waiting for {} to load..."),
+    PAGE_DISPLAYED("page.ok", "✅ {} is displayed."),
+    PAGE_NOT_DISPLAYED("page.fail", "❌ {} is NOT displayed. Exception: {}"),
+    PAGE_ABSENT("page.absent", "ℹ️ {} is not displayed within {}");
+
+    private final String code;
+    private final String consoleTemplate;
+
+    EventType(String code, String consoleTemplate) {
+        this.code = code;
+        this.consoleTemplate = consoleTemplate;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getConsoleTemplate() {
+        return consoleTemplate;
+    }
+}
@@ -0,0 +1,26 @@
+package logging;
+
+/**
+ * Mutable ring buffer slot. Slots are preallocated and reused, so recording an event allocates nothing.
+ */
+final class LogEvent {
+
+    enum Level {
+        INFO, ERROR
+    }
+
+    long timestamp;
+    Level level;
+    EventType type;
+    String subject;
+    Object detail;
+    String sessionId;
+    String testId;
+
+    void clear() {
+        subject = null;
+        detail = null;
+        sessionId = null;
+        testId = null;
+    }
+}
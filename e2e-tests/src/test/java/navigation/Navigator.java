@@ -0,0 +1,176 @@
+package navigation;
+
+import annotations.Route;
+import config.TestConfig;
+import drivers.DriverManager;
+import helpers.AppLifecycleHelper;
+import io.appium.java_client.AppiumDriver;
+import lombok.extern.slf4j.Slf4j;
+import pages.BasePage;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opens page objects directly through their declared {@link Route} (deep link or Android activity),
+ * falling back to UI navigation when the page has no route or the route does not lead to the page.
+ * After a failed route the app is brought back to the page the UI navigation starts from.
+ * A route that fails navigation.routeMaxFailures times in a row is not tried again for the rest of the run.
+ *
+ * Usage:
+ * - AppointmentChooseProviderPage page = Navigator.open(AppointmentChooseProviderPage.class, HomePage.class, homePage::bookAnAppointment);
+ * - Navigator.open(HomePage.class, AuthStateManager::restore); // UI navigation that works from any screen
+ */
+@Slf4j
+public class Navigator {
+
+    private static final Duration START_PAGE_TIMEOUT = Duration.ofSeconds(2);
+    private static final Map<String, Integer> routeFailures = new ConcurrentHashMap<>();
+
+    /**
+     * Open a page directly if possible, otherwise through the UI
+     * @param pageClass page object to reach
+     * @param uiNavigation steps that reach the page through the UI from any screen
+     * @return a fresh instance of the page object
+     */
+    public static <T extends BasePage> T open(Class<T> pageClass, Runnable uiNavigation) {
+        return open(pageClass, null, uiNavigation);
+    }
+
+    /**
+     * Open a page directly if possible, otherwise through the UI
+     * @param pageClass page object to reach
+     * @param startPage page the UI navigation starts from; the app is brought back to it if the route fails
+     * @param uiNavigation steps that reach the page through the UI from the start page
+     * @return a fresh instance of the page object
+     */
+    public static <T extends BasePage> T open(Class<T> pageClass, Class<? extends BasePage> startPage, Runnable uiNavigation) {
+        T page = openByRoute(pageClass, startPage);
+        if (page != null) {
+            return page;
+        }
+        log.info("🧭 Navigating to {} through the UI...", pageClass.getSimpleName());
+        uiNavigation.run();
+        return newPage(pageClass);
+    }
+
+    /**
+     * Check if a page can currently be opened through its route
+     */
+    public static boolean hasRoute(Class<? extends BasePage> pageClass) {
+        Route route = pageClass.getAnnotation(Route.class);
+        TestConfig config = TestConfig.getInstance();
+        return route != null
+                && config.isDeepLinkNavigationEnabled()
+                && !isUnavailable(routeKey(pageClass), config.getRouteMaxFailures())
+                && (resolveDeepLink(config.getDeepLinkBaseUrl(), route) != null || isActivityRoute(route));
+    }
+
+    private static <T extends BasePage> T openByRoute(Class<T> pageClass, Class<? extends BasePage> startPage) {
+        if (!hasRoute(pageClass)) {
+            return null;
+        }
+
+        Route route = pageClass.getAnnotation(Route.class);
+        String deepLink = resolveDeepLink(TestConfig.getInstance().getDeepLinkBaseUrl(), route);
+        String key = routeKey(pageClass);
+        try {
+            log.info("🔗 Opening {} through its route...", pageClass.getSimpleName());
+            launchRoute(route, deepLink);
+            T page = newPage(pageClass);
+            Duration timeout = Duration.ofSeconds(TestConfig.getInstance().getRouteTimeoutSeconds());
+            if (page.isPageDisplayedWithin(timeout)) {
+                recordSuccess(key);
+                return page;
+            }
+            log.warn("⚠️ Route for {} did not open the page", pageClass.getSimpleName());
+        } catch (Exception e) {
+            log.warn("⚠️ Route for {} failed: {}", pageClass.getSimpleName(), e.getMessage());
+        }
+        if (recordFailure(key, TestConfig.getInstance().getRouteMaxFailures())) {
+            log.warn("🚧 Route for {} failed repeatedly, using the UI for the rest of the run", pageClass.getSimpleName());
+        }
+        returnTo(startPage, pageClass);
+        return null;
+    }
+
+    /**
+     * Undo a route that left the app on another screen, so the UI navigation starts where it expects
+     */
+    private static void returnTo(Class<? extends BasePage> startPage, Class<? extends BasePage> pageClass) {
+        if (startPage == null || newPage(startPage).isPageDisplayedWithin(START_PAGE_TIMEOUT)) {
+            return;
+        }
+        log.info("↩️ Going back to {} after the failed route", startPage.getSimpleName());
+        DriverManager.getDriver().navigate().back();
+        if (!newPage(startPage).isPageDisplayedWithin(START_PAGE_TIMEOUT)) {
+            throw new RuntimeException("❌ Could not return to " + startPage.getSimpleName()
+                    + " after the route for " + pageClass.getSimpleName() + " failed");
+        }
+    }
+
+    /**
+     * @return true if the route has now failed maxFailures times in a row
+     */
+    static boolean recordFailure(String key, int maxFailures) {
+        return routeFailures.merge(key, 1, Integer::sum) == maxFailures;
+    }
+
+    static void recordSuccess(String key) {
+        routeFailures.remove(key);
+    }
+
+    static boolean isUnavailable(String key, int maxFailures) {
+        return routeFailures.getOrDefault(key, 0) >= maxFailures;
+    }
+
+    private static void launchRoute(Route route, String deepLink) {
+        AppiumDriver driver = DriverManager.getDriver();
+        String appId = new AppLifecycleHelper().getAppId();
+
+        if (DriverManager.getCurrentPlatform() == TestConfig.Platform.IOS) {
+            driver.executeScript("mobile: deepLink", Map.of("url", deepLink, "bundleId", appId));
+            return;
+        }
+
+        if (isActivityRoute(route)) {
+            Map<String, Object> args = new HashMap<>();
+            args.put("intent", appId + "/" + route.activity());
+            if (deepLink != null) {
+                args.put("action", "android.intent.action.VIEW");
+                args.put("uri", deepLink);
+            }
+            driver.executeScript("mobile: startActivity", args);
+        } else {
+            driver.executeScript("mobile: deepLink", Map.of("url", deepLink, "package", appId));
+        }
+    }
+
+    static String resolveDeepLink(String baseUrl, Route route) {
+        if (route.deepLink().isEmpty() || baseUrl == null || baseUrl.isEmpty()) {
+            return null;
+        }
+        return baseUrl.endsWith("/") ? baseUrl + route.deepLink() : baseUrl + "/" + route.deepLink();
+    }
+
+    private static boolean isActivityRoute(Route route) {
+        return !route.activity().isEmpty() && DriverManager.getCurrentPlatform() == TestConfig.Platform.ANDROID;
+    }
+
+    private static String routeKey(Class<? extends BasePage> pageClass) {
+        return DriverManager.getCurrentPlatform() + ":" + pageClass.getName();
+    }
+
+    /**
+     * Create a page object for the current session without navigating
+     */
+    public static <T extends BasePage> T newPage(Class<T> pageClass) {
+        try {
+            return pageClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("❌ Failed to create page object " + pageClass.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package navigation;
+
+import annotations.Route;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NavigatorTest {
+
+    @Route(deepLink = "appointment/provider")
+    private static class DeepLinkRoute {
+    }
+
+    @Route(activity = ".MainActivity")
+    private static class ActivityRoute {
+    }
+
+    @Test
+    void routeBecomesUnavailableOnlyAfterRepeatedFailures() {
+        String key = "ANDROID:repeated";
+
+        assertFalse(Navigator.recordFailure(key, 3));
+        assertFalse(Navigator.recordFailure(key, 3));
+        assertFalse(Navigator.isUnavailable(key, 3));
+        assertTrue(Navigator.recordFailure(key, 3));
+        assertTrue(Navigator.isUnavailable(key, 3));
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        String key = "ANDROID:flaky";
+
+        Navigator.recordFailure(key, 2);
+        Navigator.recordSuccess(key);
+        assertFalse(Navigator.recordFailure(key, 2));
+        assertFalse(Navigator.isUnavailable(key, 2));
+    }
+
+    @Test
+    void resolvesDeepLinksAgainstTheBaseUrl() {
+        Route route = DeepLinkRoute.class.getAnnotation(Route.class);
+
+        assertEquals("myapp://appointment/provider", Navigator.resolveDeepLink("myapp://", route));
+        assertEquals("https://app.example.com/appointment/provider", Navigator.resolveDeepLink("https://app.example.com", route));
+        assertNull(Navigator.resolveDeepLink(null, route));
+        assertNull(Navigator.resolveDeepLink("", route));
+        assertNull(Navigator.resolveDeepLink("myapp://", ActivityRoute.class.getAnnotation(Route.class)));
+    }
+}
@@ -1,15 +1,27 @@
 package pages;
 
+import config.TestConfig;
 import drivers.DriverManager;
+import drivers.SessionLostException;
+import drivers.SessionAwareWait;
 import helpers.AndroidActionsHelper;
+import impact.ImpactRecorder;
 import io.appium.java_client.AppiumBy;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.pagefactory.AppiumFieldDecorator;
+import locators.LocatorProfiler;
+import logging.EventLog;
+import logging.EventType;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import retry.Checkpoints;
+
+import java.time.Duration;
 
 /**
  * Base page class
@@ -20,11 +32,12 @@ public abstract class BasePage {
     protected AndroidActionsHelper actions;
     protected final WebDriverWait wait;
     protected static final Logger log = LoggerFactory.getLogger(BasePage.class);
+    private static final Duration PAGE_LOAD_TIMEOUT = Duration.ofSeconds(20);
 
     public BasePage() {
         this.driver = DriverManager.getDriver();
         this.actions = new AndroidActionsHelper();
-        this.wait = new WebDriverWait(driver, java.time.Duration.ofSeconds(20));
+        this.wait = new SessionAwareWait(driver, PAGE_LOAD_TIMEOUT);
         PageFactory.initElements(new AppiumFieldDecorator(driver), this);
     }
 
@@ -38,7 +51,8 @@ public abstract class BasePage {
      * @param accessibilityId the accessibility ID to wait for
      */
     public void waitForPageLoadById(String accessibilityId) {
-        log.info("📱 Waiting for {} to load...", getPageName());
+        EventLog.info(EventType.PAGE_WAIT, getPageName());
+        ImpactRecorder.record(getClass());
         wait.until(ExpectedConditions.visibilityOfElementLocated(AppiumBy.accessibilityId(accessibilityId)));
     }
 
@@ -50,14 +64,63 @@ public abstract class BasePage {
     public boolean isPageDisplayed() {
         try {
             waitForPageLoad();
-            log.info("✅ {} is displayed.", getPageName());
+            EventLog.info(EventType.PAGE_DISPLAYED, getPageName());
+            Checkpoints.reached(getClass());
+            return true;
+        } catch (Exception e) {
+            EventLog.error(EventType.PAGE_NOT_DISPLAYED, getPageName(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Check if page is displayed, waiting at most the given time instead of the default page load timeout.
+     * Meant for probing screens that may or may not show, so a miss is logged at info level.
+     * The implicit wait is off meanwhile, otherwise a single lookup could outlast the timeout.
+     *
+     * @param timeout how long to wait for the key element
+     * @return true if page is displayed, false otherwise
+     */
+    public boolean isPageDisplayedWithin(Duration timeout) {
+        wait.withTimeout(timeout);
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            waitForPageLoad();
+            EventLog.info(EventType.PAGE_DISPLAYED, getPageName());
+            Checkpoints.reached(getClass());
             return true;
+        } catch (SessionLostException e) {
+            EventLog.error(EventType.PAGE_NOT_DISPLAYED, getPageName(), e.getMessage());
+            return false;
         } catch (Exception e) {
-            log.error("❌ {} is NOT displayed. Exception: {}", getPageName(), e.getMessage());
+            EventLog.info(EventType.PAGE_ABSENT, getPageName(), timeout.toMillis() + " ms");
             return false;
+        } finally {
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(TestConfig.getInstance().getImplicitWait()));
+            wait.withTimeout(PAGE_LOAD_TIMEOUT);
         }
     }
 
+    /**
+     * Find an element of this page. All page object lookups go through here so locators can be profiled
+     * and swapped for cheaper equivalents (see {@link LocatorProfiler}).
+     * @param locator locator of the element
+     * @param name element name, unique within the page
+     */
+    protected WebElement find(By locator, String name) {
+        ImpactRecorder.record(getClass());
+        return LocatorProfiler.find(driver, getClass(), locator, name);
+    }
+
+    /**
+     * Pick the locator for the platform of this page's session
+     * @param android locator used on Android sessions
+     * @param ios locator used on iOS sessions
+     */
+    protected By byPlatform(By android, By ios) {
+        return DriverManager.getCurrentPlatform() == TestConfig.Platform.IOS ? ios : android;
+    }
+
     /**
      * Get page title/name for logging
      */
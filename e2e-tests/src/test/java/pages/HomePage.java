@@ -8,9 +8,12 @@ import io.appium.java_client.AppiumBy;
  * Home page object
  */
 public class HomePage extends BasePage {
+
+    public static final String PAGE_ACCESSIBILITY_ID = "Virtual Consultation";
+
     @Override
     public void waitForPageLoad() {
-        waitForPageLoadById("Virtual Consultation");
+        waitForPageLoadById(PAGE_ACCESSIBILITY_ID);
     }
 
     @Override
@@ -19,7 +22,10 @@ public class HomePage extends BasePage {
     }
 
     public void bookAnAppointment() {
-        WebElement bookAnAppointmentButton = driver.findElement(AppiumBy.accessibilityId("new UiSelector().className(\"android.widget.ImageView\").instance(3)"));
-        actions.clickElement(bookAnAppointmentButton, "Book an Appointment");
+        // The tile has no semantics label, so match it by image before falling back to the UiSelector
+        actions.tapByTemplate("book_an_appointment", "Book an Appointment", () -> {
+            WebElement bookAnAppointmentButton = find(AppiumBy.accessibilityId("new UiSelector().className(\"android.widget.ImageView\").instance(3)"), "Book an Appointment");
+            actions.clickElement(bookAnAppointmentButton, "Book an Appointment");
+        });
     }
 }
@@ -1,5 +1,7 @@
 package pages;
 
+import accounts.AccountLease;
+import accounts.AccountPool;
 import config.TestConfig;
 import io.appium.java_client.AppiumBy;
 import org.openqa.selenium.WebElement;
@@ -18,36 +20,48 @@ public class LoginPage extends BasePage {
     }
 
     /**
-     * Login with credentials from configuration
+     * Login with the account leased to this session, or the credentials from configuration if none is leased
      */
     public void loginWithDefaultCredentials() {
         log.info("🔐 Logging in with credentials from configuration...");
 
         // Click the "Log in" button on the welcome screen
-        WebElement loginButton1 = driver.findElement(AppiumBy.accessibilityId("Log in"));
+        WebElement loginButton1 = find(AppiumBy.accessibilityId("Log in"), "Login Button 1");
         actions.clickElement(loginButton1, "Login Button 1");
 
         // Click the "Log in with email" button
-        WebElement logInWithEmail = driver.findElement(AppiumBy.accessibilityId("Log in with email"));
+        WebElement logInWithEmail = find(AppiumBy.accessibilityId("Log in with email"), "Log in with email Button");
         actions.clickElement(logInWithEmail, "Log in with email Button");
 
-        // Get credentials from configuration
-        String username = config.getTestUsername();
-        String password = config.getTestPassword();
+        // Get credentials from the leased account, falling back to configuration
+        AccountLease lease = AccountPool.currentLease();
+        String username = lease != null ? lease.getAccount().getUsername() : config.getTestUsername();
+        String password = lease != null ? lease.getAccount().getPassword() : config.getTestPassword();
         
         // Enter username and password
-        WebElement userNameField = driver.findElement(AppiumBy.androidUIAutomator("new UiSelector().className(\"android.widget.EditText\").instance(0)"));
+        WebElement userNameField = find(byPlatform(
+                AppiumBy.androidUIAutomator("new UiSelector().className(\"android.widget.EditText\").instance(0)"),
+                AppiumBy.iOSClassChain("**/XCUIElementTypeTextField")), "Username Field");
         actions.sendKeys(userNameField, username, "Username Field");
 
-        WebElement passwordField = driver.findElement(AppiumBy.androidUIAutomator("new UiSelector().className(\"android.widget.EditText\").instance(1)"));
+        WebElement passwordField = find(byPlatform(
+                AppiumBy.androidUIAutomator("new UiSelector().className(\"android.widget.EditText\").instance(1)"),
+                AppiumBy.iOSClassChain("**/XCUIElementTypeSecureTextField")), "Password Field");
         actions.sendKeys(passwordField, password, "Password Field");
 
-        // Click the "Log in" button to submit
-        WebElement loginButton2 = driver.findElement(AppiumBy.androidUIAutomator("new UiSelector().description(\"Log in\")"));
+        // Click the "Log in" button to submit, located by image so the tap does not rely on a fixed point
         actions.closeKeyboard();
-        actions.tapElementByCoordinates(loginButton2, "Login Button 2");
+        actions.tapByTemplate("login_submit", "Login Button 2", () -> {
+            WebElement loginButton2 = find(byPlatform(
+                    AppiumBy.androidUIAutomator("new UiSelector().description(\"Log in\")"),
+                    AppiumBy.accessibilityId("Log in")), "Login Button 2");
+            actions.tapElementByCoordinates(loginButton2, "Login Button 2");
+        });
 
-        log.info("🔐 Login submitted with credentials from configuration.");
+        if (lease != null) {
+            lease.updateState(state -> state.withLoggedIn(true));
+        }
+        log.info("🔐 Login submitted for {}.", username);
     }
 
     @Override
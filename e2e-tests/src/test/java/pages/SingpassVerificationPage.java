@@ -1,12 +1,17 @@
 package pages;
 
+import accounts.AccountLease;
+import accounts.AccountPool;
+import accounts.AccountState;
 import io.appium.java_client.AppiumBy;
 
 public class SingpassVerificationPage extends BasePage {
 
+    public static final String PAGE_ACCESSIBILITY_ID = "Verify identity with Singpass\\nWe use Singpass to securely confirm your identity, as required by MOH.\\nVerify quickly with a one-time Singpass login.\\nKeep your personal details accurate and compliant with healthcare regulations.\\nAvoid identity mismatch issues that could stop your consultation.";
+
     @Override
     public void waitForPageLoad() {
-        waitForPageLoadById("Verify identity with Singpass\\nWe use Singpass to securely confirm your identity, as required by MOH.\\nVerify quickly with a one-time Singpass login.\\nKeep your personal details accurate and compliant with healthcare regulations.\\nAvoid identity mismatch issues that could stop your consultation.");
+        waitForPageLoadById(PAGE_ACCESSIBILITY_ID);
     }
 
     @Override
@@ -19,6 +24,10 @@ public class SingpassVerificationPage extends BasePage {
      */
     public void remindMeLater() {
         log.info("🔘 Clicking 'Remind me later' button...");
-        actions.clickElement(driver.findElement(AppiumBy.accessibilityId("Remind me later")), "'Remind me later' Button");
+        actions.clickElement(find(AppiumBy.accessibilityId("Remind me later"), "Remind me later Button"), "'Remind me later' Button");
+        AccountLease lease = AccountPool.currentLease();
+        if (lease != null) {
+            lease.updateState(state -> state.withSingpassStatus(AccountState.SingpassStatus.DEFERRED));
+        }
     }
 }
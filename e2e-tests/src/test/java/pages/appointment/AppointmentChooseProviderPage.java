@@ -20,7 +20,7 @@ public class AppointmentChooseProviderPage extends BasePage {
      */
     public void selectGPProviderType() {
         log.info("🔘 Selecting 'General Practitioner (GP)' provider type...");
-        WebElement GpButton = driver.findElement(AppiumBy.accessibilityId("General Practitioner"));
+        WebElement GpButton = find(AppiumBy.accessibilityId("General Practitioner"), "General Practitioner Button");
         actions.clickElement(GpButton, "'General Practitioner (GP)' Button");
     }
 }
@@ -0,0 +1,54 @@
+package retry;
+
+import lombok.extern.slf4j.Slf4j;
+import navigation.Navigator;
+import pages.BasePage;
+
+import java.time.Duration;
+
+/**
+ * Tracks the last page the current thread's session was verified to be on, and brings the app back to a page
+ * before a retry: directly if it is still showing, otherwise through its route or the caller's UI path.
+ * The checkpoint is cleared before each test and after a session is recovered, since it belongs to the old screen.
+ */
+@Slf4j
+public class Checkpoints {
+
+    private static final Duration ALREADY_THERE_TIMEOUT = Duration.ofSeconds(2);
+    private static final ThreadLocal<Class<? extends BasePage>> lastGoodPage = new ThreadLocal<>();
+
+    /**
+     * Remember a page as known-good; called when a page object confirms it is displayed
+     */
+    public static void reached(Class<? extends BasePage> pageClass) {
+        lastGoodPage.set(pageClass);
+    }
+
+    /**
+     * Get the last known-good page
+     * @return page class, or null if no page was confirmed yet
+     */
+    public static Class<? extends BasePage> current() {
+        return lastGoodPage.get();
+    }
+
+    public static void clear() {
+        lastGoodPage.remove();
+    }
+
+    /**
+     * Bring the app back to a page
+     * @param fallback steps that reach the page through the UI when it has no usable route
+     * @throws RuntimeException if the page is not displayed afterwards
+     */
+    public static void restore(Class<? extends BasePage> pageClass, Runnable fallback) {
+        BasePage page = Navigator.newPage(pageClass);
+        if (page.isPageDisplayedWithin(ALREADY_THERE_TIMEOUT)) {
+            return;
+        }
+        log.info("⏪ Restoring checkpoint {}...", pageClass.getSimpleName());
+        if (!Navigator.open(pageClass, fallback).isPageDisplayed()) {
+            throw new RuntimeException("❌ Could not restore checkpoint " + pageClass.getSimpleName());
+        }
+    }
+}
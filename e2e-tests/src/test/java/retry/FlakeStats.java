@@ -0,0 +1,127 @@
+package retry;
+
+import config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts attempts, failures and retries per test, step and locator, and writes them to retry.reportFile
+ * when the JVM exits. A key with both failures and successes is flaky; one whose retries recovered it
+ * shows how much a rerun saved.
+ */
+@Slf4j
+public class FlakeStats {
+
+    public enum Kind {
+        TEST, STEP, LOCATOR
+    }
+
+    private static final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(FlakeStats::writeReport, "flake-stats"));
+    }
+
+    public static void recordSuccess(Kind kind, String key) {
+        counters(kind, key).successes.increment();
+    }
+
+    public static void recordFailure(Kind kind, String key) {
+        counters(kind, key).failures.increment();
+    }
+
+    public static void recordRetry(Kind kind, String key) {
+        counters(kind, key).retries.increment();
+    }
+
+    /**
+     * Record that a retry turned a failure into a pass
+     */
+    public static void recordRecovered(Kind kind, String key) {
+        counters(kind, key).recovered.increment();
+    }
+
+    private static Counters counters(Kind kind, String key) {
+        return counters.computeIfAbsent(kind + ":" + key, k -> new Counters(kind, key));
+    }
+
+    private static void writeReport() {
+        List<Map<String, Object>> entries = report();
+        if (entries.isEmpty()) {
+            return;
+        }
+        for (Map<String, Object> entry : entries) {
+            log.info("🩹 {} {}: {} failures, {} successes, {} retries, {} recovered", entry.get("kind"), entry.get("key"),
+                    entry.get("failures"), entry.get("successes"), entry.get("retries"), entry.get("recoveredByRetry"));
+        }
+
+        Path file;
+        try {
+            file = Paths.get(TestConfig.getInstance().getRetryReportFile());
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Flake report not written: {}", e.getMessage());
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, new Json().toJson(entries), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("❌ Failed to write flake report to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Get the counters of every key that failed at least once, most failures first
+     */
+    static List<Map<String, Object>> report() {
+        List<Counters> flaky = new ArrayList<>();
+        for (Counters entry : counters.values()) {
+            if (entry.failures.sum() > 0) {
+                flaky.add(entry);
+            }
+        }
+        flaky.sort(Comparator.comparingLong((Counters entry) -> entry.failures.sum()).reversed());
+
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (Counters entry : flaky) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("kind", entry.kind.name());
+            json.put("key", entry.key);
+            json.put("successes", entry.successes.sum());
+            json.put("failures", entry.failures.sum());
+            json.put("retries", entry.retries.sum());
+            json.put("recoveredByRetry", entry.recovered.sum());
+            entries.add(json);
+        }
+        return entries;
+    }
+
+    private static class Counters {
+        private final Kind kind;
+        private final String key;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder recovered = new LongAdder();
+
+        Counters(Kind kind, String key) {
+            this.kind = kind;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FlakeStatsTest {
+
+    @Test
+    void reportsKeysThatFailedMostFailuresFirst() {
+        FlakeStats.recordSuccess(FlakeStats.Kind.STEP, "FlakeStatsTest.stable");
+        FlakeStats.recordFailure(FlakeStats.Kind.STEP, "FlakeStatsTest.flaky");
+        FlakeStats.recordRetry(FlakeStats.Kind.STEP, "FlakeStatsTest.flaky");
+        FlakeStats.recordRecovered(FlakeStats.Kind.STEP, "FlakeStatsTest.flaky");
+        FlakeStats.recordSuccess(FlakeStats.Kind.STEP, "FlakeStatsTest.flaky");
+        FlakeStats.recordFailure(FlakeStats.Kind.TEST, "FlakeStatsTest.broken");
+        FlakeStats.recordFailure(FlakeStats.Kind.TEST, "FlakeStatsTest.broken");
+
+        List<Map<String, Object>> report = FlakeStats.report().stream()
+                .filter(entry -> ((String) entry.get("key")).startsWith("FlakeStatsTest."))
+                .collect(Collectors.toList());
+
+        assertEquals(2, report.size());
+        assertEquals(Map.of("kind", "TEST", "key", "FlakeStatsTest.broken", "successes", 0L, "failures", 2L,
+                "retries", 0L, "recoveredByRetry", 0L), report.get(0));
+        assertEquals(Map.of("kind", "STEP", "key", "FlakeStatsTest.flaky", "successes", 1L, "failures", 1L,
+                "retries", 1L, "recoveredByRetry", 1L), report.get(1));
+    }
+}
@@ -0,0 +1,26 @@
+package retry;
+
+import config.TestConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Run-wide cap on retries (retry.budget), shared by test-level and step-level retries on all threads,
+ * so a genuinely broken build fails fast instead of retrying every test
+ */
+public class RetryBudget {
+
+    private static final AtomicInteger remaining = new AtomicInteger(TestConfig.getInstance().getRetryBudget());
+
+    /**
+     * Take one retry from the budget
+     * @return false once the budget is used up
+     */
+    public static boolean tryConsume() {
+        return remaining.getAndUpdate(left -> Math.max(0, left - 1)) > 0;
+    }
+
+    public static int getRemaining() {
+        return remaining.get();
+    }
+}
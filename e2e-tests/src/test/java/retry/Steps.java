@@ -0,0 +1,61 @@
+package retry;
+
+import config.TestConfig;
+import drivers.DriverManager;
+import lombok.extern.slf4j.Slf4j;
+import pages.BasePage;
+
+/**
+ * Retries a single test step on the live session. The page last confirmed displayed before the step is its
+ * checkpoint: when the step fails, the app is brought back to that page and the step runs again, up to
+ * retry.stepAttempts attempts in total. The checkpoint is restored only if it is still showing, through its route,
+ * or through the UI path the caller passes; otherwise the step is not retried. Steps without a checkpoint and
+ * failures on a lost session are not retried either.
+ *
+ * Usage:
+ * - Steps.run("Choose GP", providerPage::selectGPProviderType); // Retried only if the page is showing or has a route
+ * - Steps.run("Choose GP", providerPage::selectGPProviderType, () -> { AuthStateManager.restore(); homePage.bookAnAppointment(); });
+ */
+@Slf4j
+public class Steps {
+
+    public static void run(String name, Runnable step) {
+        run(name, step, null);
+    }
+
+    /**
+     * @param toCheckpoint steps that reach the checkpoint page through the UI after a failure, like the UI
+     *                     navigation passed to Navigator.open; null if there is no such path
+     */
+    public static void run(String name, Runnable step, Runnable toCheckpoint) {
+        Class<? extends BasePage> checkpoint = Checkpoints.current();
+        int attempts = TestConfig.getInstance().getRetryStepAttempts();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                step.run();
+                FlakeStats.recordSuccess(FlakeStats.Kind.STEP, name);
+                if (attempt > 1) {
+                    FlakeStats.recordRecovered(FlakeStats.Kind.STEP, name);
+                    log.info("✅ Step '{}' passed on attempt {}", name, attempt);
+                }
+                return;
+            } catch (RuntimeException | AssertionError e) {
+                FlakeStats.recordFailure(FlakeStats.Kind.STEP, name);
+                if (attempt >= attempts || checkpoint == null || DriverManager.isSessionLost() || !RetryBudget.tryConsume()) {
+                    throw e;
+                }
+                FlakeStats.recordRetry(FlakeStats.Kind.STEP, name);
+                log.warn("🔁 Step '{}' failed ({}), retrying from {} ({}/{})",
+                        name, e.getMessage(), checkpoint.getSimpleName(), attempt + 1, attempts);
+                try {
+                    Checkpoints.restore(checkpoint, toCheckpoint != null ? toCheckpoint : () -> {
+                        throw new RuntimeException("❌ No route or UI path back to " + checkpoint.getSimpleName());
+                    });
+                } catch (RuntimeException restoreFailure) {
+                    e.addSuppressed(restoreFailure);
+                    throw e;
+                }
+            }
+        }
+    }
+}
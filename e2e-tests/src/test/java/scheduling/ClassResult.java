@@ -0,0 +1,54 @@
+package scheduling;
+
+import config.TestConfig;
+import drivers.Device;
+
+/**
+ * Outcome of running one test class on one device
+ */
+public class ClassResult {
+
+    private final String className;
+    private final Device device;
+    private final long durationMs;
+    private final long succeeded;
+    private final long failed;
+    private final long skipped;
+
+    public ClassResult(String className, Device device, long durationMs, long succeeded, long failed, long skipped) {
+        this.className = className;
+        this.device = device;
+        this.durationMs = durationMs;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.skipped = skipped;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public Device getDevice() {
+        return device;
+    }
+
+    public TestConfig.Platform getPlatform() {
+        return device.getPlatform();
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+}
@@ -0,0 +1,105 @@
+package scheduling;
+
+import config.TestConfig;
+import drivers.AppiumServerPool;
+import drivers.Device;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.SessionNotCreatedException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tells device failures apart from test failures, so a worker only retires when its device or session
+ * infrastructure is broken and not when a test class fails the same way on every device.
+ */
+@Slf4j
+class DeviceHealthCheck {
+
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Decide whether a class-level failure means the device can no longer run sessions
+     * @return reason to retire the device, or null if the failure belongs to the test class
+     */
+    static String deviceFailureOf(Device device, Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SessionNotCreatedException) {
+                return "session could not be created: " + firstLine(cause.getMessage());
+            }
+            if (cause instanceof ConnectException) {
+                return "Appium server refused the connection: " + firstLine(cause.getMessage());
+            }
+        }
+        return probe(device);
+    }
+
+    /**
+     * Check that the Appium server answers /status and, for Android, that adb still sees the device
+     * @return reason the device is unhealthy, or null if it looks healthy or cannot be checked
+     */
+    static String probe(Device device) {
+        if (!AppiumServerPool.isEnabled()) {
+            String serverUrl = TestConfig.getInstance().getAppiumServerUrl();
+            try {
+                HttpResponse<Void> response = HttpClient.newBuilder().connectTimeout(PROBE_TIMEOUT).build().send(
+                        HttpRequest.newBuilder(URI.create(serverUrl.replaceAll("/+$", "") + "/status")).timeout(PROBE_TIMEOUT).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    return "Appium server /status returned " + response.statusCode();
+                }
+            } catch (IOException e) {
+                return "Appium server /status failed: " + e.getMessage();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        if (device.getPlatform() == TestConfig.Platform.ANDROID) {
+            Path output = null;
+            try {
+                // Output goes to a file so a hung adb cannot block the read past the timeout
+                output = Files.createTempFile("adb-get-state", ".txt");
+                Process adb = new ProcessBuilder("adb", "-s", device.getUdid(), "get-state")
+                        .redirectErrorStream(true)
+                        .redirectOutput(output.toFile())
+                        .start();
+                if (!adb.waitFor(PROBE_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                    adb.destroyForcibly();
+                    return "adb did not answer for " + device.getUdid();
+                }
+                String state = new String(Files.readAllBytes(output), StandardCharsets.UTF_8).trim();
+                if (!"device".equals(state)) {
+                    return "adb reports " + device.getUdid() + " as '" + state + "'";
+                }
+            } catch (IOException e) {
+                log.debug("adb is not available, skipping the device probe: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (output != null) {
+                    output.toFile().delete();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
@@ -0,0 +1,34 @@
+package scheduling;
+
+import config.TestConfig;
+import drivers.Device;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriverException;
+
+import java.net.ConnectException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeviceHealthCheckTest {
+
+    private final Device device = new Device(TestConfig.Platform.ANDROID, "emulator-5554", "Pixel");
+
+    @Test
+    void sessionThatCannotBeCreatedRetiresTheDevice() {
+        String reason = DeviceHealthCheck.deviceFailureOf(device,
+                new RuntimeException("setup failed", new SessionNotCreatedException("UiAutomator2 not installed\nbuild info")));
+
+        assertTrue(reason.startsWith("session could not be created: "), reason);
+        assertEquals(-1, reason.indexOf('\n'), "only the first line is kept: " + reason);
+    }
+
+    @Test
+    void refusedConnectionRetiresTheDevice() {
+        String reason = DeviceHealthCheck.deviceFailureOf(device,
+                new WebDriverException("Could not start a new session", new ConnectException("Connection refused")));
+
+        assertTrue(reason.startsWith("Appium server refused the connection"), reason);
+    }
+}
@@ -0,0 +1,117 @@
+package scheduling;
+
+import drivers.Device;
+import drivers.DeviceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * Runs test classes on one device, pulling work from the shared scheduler until none is left.
+ * Tests execute on this worker's thread, so the thread-bound device and driver are used throughout.
+ *
+ * If the device fails (a class cannot create its session, the Appium server or adb no longer reach the device,
+ * or a lost session cannot be recovered) the worker retires: the class it was running and everything queued for
+ * it move to other devices. Other class-level failures, such as no free test account or a broken @BeforeAll,
+ * are reported as failures of that class and the worker carries on.
+ */
+@Slf4j
+public class DeviceWorker implements Runnable {
+
+    private final int index;
+    private final Device device;
+    private final ShardScheduler scheduler;
+    private static final int MAX_REQUEUES = 2;
+
+    private final List<ClassResult> results;
+
+    public DeviceWorker(int index, Device device, ShardScheduler scheduler, List<ClassResult> results) {
+        this.index = index;
+        this.device = device;
+        this.scheduler = scheduler;
+        this.results = results;
+    }
+
+    @Override
+    public void run() {
+        Thread.currentThread().setName("worker-" + index + "-" + device.getUdid());
+        DeviceContext.set(device);
+        try {
+            Launcher launcher = LauncherFactory.create();
+            TestUnit unit;
+            while ((unit = scheduler.next(index)) != null) {
+                AtomicReference<Throwable> setupFailure = new AtomicReference<>();
+                ClassResult result = runClass(launcher, unit, setupFailure);
+                String deviceFailure = DeviceContext.takeFailure();
+                if (deviceFailure == null && setupFailure.get() != null) {
+                    deviceFailure = DeviceHealthCheck.deviceFailureOf(device, setupFailure.get());
+                    if (deviceFailure == null) {
+                        log.warn("⚠️ {} failed on healthy {}: {}", unit.getClassName(), device, setupFailure.get().getMessage());
+                    }
+                }
+                if (deviceFailure != null) {
+                    retire(unit, result, deviceFailure);
+                    break;
+                }
+                results.add(result);
+                scheduler.complete(unit);
+            }
+            log.info("🏁 Worker {} on {} has no work left", index, device);
+        } finally {
+            DeviceContext.clear();
+        }
+    }
+
+    private void retire(TestUnit unit, ClassResult result, String reason) {
+        log.error("💥 {} failed: {}. Moving its work to other devices", device, reason);
+        List<TestUnit> stranded = scheduler.retire(index);
+        if (unit.markRequeued() <= MAX_REQUEUES && scheduler.reassign(unit)) {
+            log.info("↪️ Requeued {} on another {} device", unit.getClassName(), unit.getPlatform());
+        } else {
+            results.add(result);
+        }
+        stranded.forEach(queued -> log.warn("⚠️ No remaining device can run {}", queued.getClassName()));
+        scheduler.complete(unit);
+    }
+
+    private ClassResult runClass(Launcher launcher, TestUnit unit, AtomicReference<Throwable> setupFailure) {
+        log.info("▶️ Running {} on {}", unit, device);
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(unit.getClassName()))
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        TestExecutionListener setupListener = new TestExecutionListener() {
+            @Override
+            public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+                if (identifier.getSource().filter(ClassSource.class::isInstance).isPresent()
+                        && result.getStatus() == TestExecutionResult.Status.FAILED) {
+                    setupFailure.set(result.getThrowable().orElse(new RuntimeException("unknown class failure")));
+                }
+            }
+        };
+        long start = System.currentTimeMillis();
+        launcher.execute(request, listener, setupListener);
+        long durationMs = System.currentTimeMillis() - start;
+
+        TestExecutionSummary summary = listener.getSummary();
+        ClassResult result = new ClassResult(unit.getClassName(), device, durationMs,
+                summary.getTestsSucceededCount(), summary.getTotalFailureCount(), summary.getTestsSkippedCount());
+        log.info("⏹️ {} on {} finished in {} ms (estimated {} ms): {} passed, {} failed, {} skipped",
+                unit.getClassName(), device, durationMs, unit.getEstimatedMs(),
+                result.getSucceeded(), result.getFailed(), result.getSkipped());
+        return result;
+    }
+}
@@ -0,0 +1,270 @@
+package scheduling;
+
+import config.TestConfig;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Assigns test units to device workers to minimize makespan.
+ *
+ * The initial plan uses longest-processing-time-first: units are sorted by estimated duration and each one
+ * goes to the currently least-loaded worker whose device platform the unit supports. At run time every worker takes work from the head of its own
+ * queue; once that is empty it steals from the tail (the shortest remaining unit) of the worker with the
+ * most estimated work left, so estimation errors are rebalanced as devices free up.
+ *
+ * A worker whose device failed is retired: its queued units move to the least-loaded remaining workers
+ * that can run them, and it never receives work again.
+ */
+public class ShardScheduler {
+
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final List<WorkQueue> queues;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<TestUnit> unschedulable;
+
+    private ShardScheduler(List<WorkQueue> queues, List<TestUnit> unschedulable) {
+        this.queues = queues;
+        this.unschedulable = new CopyOnWriteArrayList<>(unschedulable);
+    }
+
+    /**
+     * Build an LPT plan, one worker per entry of workerPlatforms
+     * @param units test classes to run
+     * @param workerPlatforms platform of each worker's device
+     */
+    public static ShardScheduler plan(List<TestUnit> units, List<TestConfig.Platform> workerPlatforms) {
+        if (workerPlatforms.isEmpty()) {
+            throw new IllegalArgumentException("❌ At least one worker is required");
+        }
+        List<WorkQueue> queues = new ArrayList<>();
+        for (TestConfig.Platform platform : workerPlatforms) {
+            queues.add(new WorkQueue(platform));
+        }
+
+        List<TestUnit> unschedulable = new ArrayList<>();
+        units.stream()
+                .sorted(Comparator.comparingLong(TestUnit::getEstimatedMs).reversed())
+                .forEach(unit -> {
+                    WorkQueue leastLoaded = null;
+                    for (WorkQueue queue : queues) {
+                        if (unit.canRunOn(queue.platform)
+                                && (leastLoaded == null || queue.remainingMs.get() < leastLoaded.remainingMs.get())) {
+                            leastLoaded = queue;
+                        }
+                    }
+                    if (leastLoaded == null) {
+                        unschedulable.add(unit);
+                    } else {
+                        leastLoaded.add(unit);
+                    }
+                });
+        return new ShardScheduler(queues, unschedulable);
+    }
+
+    /**
+     * Take the next unit for a worker, stealing from the most loaded worker when its own queue is empty.
+     * Only units that can run on the worker's platform are stolen. While other units are still running,
+     * an idle worker waits, since a failing device may hand their work back.
+     * Call {@link #complete(TestUnit)} when the unit has finished.
+     * @return next unit, or null when no work is left for this worker
+     */
+    public TestUnit next(int worker) {
+        WorkQueue own = queues.get(worker);
+        while (!own.retired) {
+            inFlight.incrementAndGet();
+            TestUnit unit = take(worker, own);
+            if (unit != null) {
+                return unit;
+            }
+            if (inFlight.decrementAndGet() == 0) {
+                // Nothing is running, so nothing can be handed back any more: one last look, then stop
+                unit = take(worker, own);
+                if (unit != null) {
+                    inFlight.incrementAndGet();
+                    return unit;
+                }
+                own.retired = true;
+                return null;
+            }
+            LockSupport.parkNanos(IDLE_POLL_NANOS);
+        }
+        return null;
+    }
+
+    /**
+     * Mark a unit taken with {@link #next(int)} as finished
+     */
+    public void complete(TestUnit unit) {
+        inFlight.decrementAndGet();
+    }
+
+    private TestUnit take(int worker, WorkQueue own) {
+        TestUnit unit = own.pollFirst();
+        if (unit != null) {
+            return unit;
+        }
+        while (true) {
+            WorkQueue victim = null;
+            for (int i = 0; i < queues.size(); i++) {
+                WorkQueue candidate = queues.get(i);
+                if (i != worker && candidate.hasWorkFor(own.platform)
+                        && (victim == null || candidate.remainingMs.get() > victim.remainingMs.get())) {
+                    victim = candidate;
+                }
+            }
+            if (victim == null) {
+                return null;
+            }
+            TestUnit stolen = victim.stealFor(own.platform);
+            if (stolen != null) {
+                return stolen;
+            }
+        }
+    }
+
+    /**
+     * Get units that no configured device can run, including units stranded by failed devices
+     */
+    public List<TestUnit> getUnschedulable() {
+        return unschedulable;
+    }
+
+    /**
+     * Put a unit back at the head of a worker's queue
+     */
+    public void requeue(int worker, TestUnit unit) {
+        queues.get(worker).addFirst(unit);
+    }
+
+    /**
+     * Stop giving work to a worker whose device failed and move its queued units to other workers
+     * @return units that no remaining worker can run
+     */
+    public List<TestUnit> retire(int worker) {
+        WorkQueue retired = queues.get(worker);
+        retired.retired = true;
+        List<TestUnit> drained = new ArrayList<>();
+        TestUnit unit;
+        while ((unit = retired.pollFirst()) != null) {
+            drained.add(unit);
+        }
+        drained.sort(Comparator.comparingLong(TestUnit::getEstimatedMs).reversed());
+        List<TestUnit> stranded = new ArrayList<>();
+        for (TestUnit queued : drained) {
+            if (!reassign(queued)) {
+                stranded.add(queued);
+            }
+        }
+        return stranded;
+    }
+
+    /**
+     * Give a unit to the least-loaded active worker that can run it, at the head of its queue
+     * @return false if no active worker can run it; the unit is then recorded as unschedulable
+     */
+    public boolean reassign(TestUnit unit) {
+        WorkQueue target = null;
+        for (WorkQueue queue : queues) {
+            if (!queue.retired && unit.canRunOn(queue.platform)
+                    && (target == null || queue.remainingMs.get() < target.remainingMs.get())) {
+                target = queue;
+            }
+        }
+        if (target == null) {
+            unschedulable.add(unit);
+            return false;
+        }
+        target.addFirst(unit);
+        return true;
+    }
+
+    public int getWorkerCount() {
+        return queues.size();
+    }
+
+    /**
+     * Get the units currently queued for a worker
+     */
+    public List<TestUnit> getQueued(int worker) {
+        return new ArrayList<>(queues.get(worker).deque);
+    }
+
+    /**
+     * Get the estimated time until the busiest worker finishes its queue
+     */
+    public long getEstimatedMakespanMs() {
+        return queues.stream().mapToLong(queue -> queue.remainingMs.get()).max().orElse(0);
+    }
+
+    public String describePlan() {
+        StringBuilder plan = new StringBuilder();
+        for (int i = 0; i < queues.size(); i++) {
+            WorkQueue queue = queues.get(i);
+            plan.append(String.format("%n   - worker %d %s (~%ds): %s", i, queue.platform, queue.remainingMs.get() / 1000,
+                    queue.deque.stream().map(TestUnit::getClassName).collect(Collectors.joining(", "))));
+        }
+        return plan.toString();
+    }
+
+    private static class WorkQueue {
+        private final TestConfig.Platform platform;
+        private final ConcurrentLinkedDeque<TestUnit> deque = new ConcurrentLinkedDeque<>();
+        private final AtomicLong remainingMs = new AtomicLong();
+        // Set when the worker's device failed or the worker finished; retired queues get no more work
+        private volatile boolean retired;
+
+        WorkQueue(TestConfig.Platform platform) {
+            this.platform = platform;
+        }
+
+        void add(TestUnit unit) {
+            deque.addLast(unit);
+            remainingMs.addAndGet(unit.getEstimatedMs());
+        }
+
+        void addFirst(TestUnit unit) {
+            deque.addFirst(unit);
+            remainingMs.addAndGet(unit.getEstimatedMs());
+        }
+
+        TestUnit pollFirst() {
+            return taken(deque.pollFirst());
+        }
+
+        /**
+         * Remove the shortest (last) unit that can run on the given platform
+         */
+        TestUnit stealFor(TestConfig.Platform thiefPlatform) {
+            Iterator<TestUnit> iterator = deque.descendingIterator();
+            while (iterator.hasNext()) {
+                TestUnit unit = iterator.next();
+                if (unit.canRunOn(thiefPlatform) && deque.removeLastOccurrence(unit)) {
+                    return taken(unit);
+                }
+            }
+            return null;
+        }
+
+        boolean hasWorkFor(TestConfig.Platform thiefPlatform) {
+            return deque.stream().anyMatch(unit -> unit.canRunOn(thiefPlatform));
+        }
+
+        private TestUnit taken(TestUnit unit) {
+            if (unit != null) {
+                remainingMs.addAndGet(-unit.getEstimatedMs());
+            }
+            return unit;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package scheduling;
+
+import config.TestConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static config.TestConfig.Platform.ANDROID;
+import static config.TestConfig.Platform.IOS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardSchedulerTest {
+
+    @Test
+    void plansLongestUnitsFirstOnTheLeastLoadedWorker() {
+        ShardScheduler scheduler = ShardScheduler.plan(List.of(
+                unit("A", ANDROID, 3), unit("B", ANDROID, 7), unit("C", ANDROID, 2),
+                unit("D", ANDROID, 5), unit("E", ANDROID, 4)), List.of(ANDROID, ANDROID));
+
+        // 7 -> w0, 5 -> w1, 4 -> w1 (5 < 7), 3 -> w0 (7 < 9), 2 -> w1 (9 < 10)
+        assertEquals(List.of("B", "A"), queued(scheduler, 0));
+        assertEquals(List.of("D", "E", "C"), queued(scheduler, 1));
+        assertEquals(11_000, scheduler.getEstimatedMakespanMs());
+    }
+
+    @Test
+    void plansUnitsOnlyOnWorkersOfTheirPlatform() {
+        ShardScheduler scheduler = ShardScheduler.plan(List.of(
+                unit("A", ANDROID, 9), unit("B", IOS, 1), unit("C", ANDROID, 1)), List.of(ANDROID, ANDROID));
+
+        assertEquals(List.of("A"), queued(scheduler, 0));
+        assertEquals(List.of("C"), queued(scheduler, 1));
+        assertEquals(List.of("B"), scheduler.getUnschedulable().stream().map(TestUnit::getClassName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void idleWorkerStealsTheShortestUnitOfTheBusiestWorker() {
+        ShardScheduler scheduler = ShardScheduler.plan(List.of(
+                unit("A", ANDROID, 8), unit("B", ANDROID, 4), unit("C", ANDROID, 4), unit("D", ANDROID, 1)),
+                List.of(ANDROID, ANDROID));
+        assertEquals(List.of("A", "D"), queued(scheduler, 0));
+        assertEquals(List.of("B", "C"), queued(scheduler, 1));
+
+        for (String expected : List.of("B", "C")) {
+            TestUnit unit = scheduler.next(1);
+            assertEquals(expected, unit.getClassName());
+            scheduler.complete(unit);
+        }
+        TestUnit stolen = scheduler.next(1);
+
+        assertEquals("D", stolen.getClassName());
+        assertEquals(List.of("A"), queued(scheduler, 0));
+    }
+
+    @Test
+    void idleWorkerDoesNotStealUnitsOfAnotherPlatform() {
+        ShardScheduler scheduler = ShardScheduler.plan(List.of(
+                unit("A", ANDROID, 5), unit("B", ANDROID, 3)), List.of(ANDROID, IOS));
+
+        assertNull(scheduler.next(1));
+        assertEquals(List.of("A", "B"), queued(scheduler, 0));
+    }
+
+    @Test
+    void retiringAWorkerMovesItsUnitsAndStrandsThoseNoOneElseCanRun() {
+        TestUnit a = unit("A", ANDROID, 5);
+        TestUnit b = unit("B", ANDROID, 4);
+        TestUnit c = unit("C", IOS, 3);
+        ShardScheduler scheduler = ShardScheduler.plan(List.of(a, b, c), List.of(ANDROID, ANDROID, IOS));
+        assertEquals(List.of("A"), queued(scheduler, 0));
+        assertEquals(List.of("B"), queued(scheduler, 1));
+        assertEquals(List.of("C"), queued(scheduler, 2));
+
+        assertTrue(scheduler.retire(0).isEmpty());
+        assertEquals(List.of("A", "B"), queued(scheduler, 1));
+        assertNull(scheduler.next(0));
+
+        assertEquals(List.of(c), scheduler.retire(2));
+        assertTrue(scheduler.getUnschedulable().contains(c));
+    }
+
+    @Test
+    void reassignedUnitRunsNextOnTheLeastLoadedWorker() {
+        ShardScheduler scheduler = ShardScheduler.plan(List.of(
+                unit("A", ANDROID, 5), unit("B", ANDROID, 2)), List.of(ANDROID, ANDROID));
+        TestUnit failed = unit("F", ANDROID, 1);
+
+        assertTrue(scheduler.reassign(failed));
+
+        TestUnit next = scheduler.next(1);
+        assertSame(failed, next);
+    }
+
+    private static TestUnit unit(String name, TestConfig.Platform platform, long seconds) {
+        return new TestUnit(name, platform, seconds * 1000);
+    }
+
+    private static List<String> queued(ShardScheduler scheduler, int worker) {
+        return scheduler.getQueued(worker).stream().map(TestUnit::getClassName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,143 @@
+package scheduling;
+
+import annotations.TargetPlatform;
+import config.TestConfig;
+import drivers.Device;
+import impact.ImpactSelector;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import tests.BaseTest;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+
+/**
+ * Entry point for running the suite across every configured device.
+ * Discovers BaseTest subclasses, plans them with {@link ShardScheduler} from historical durations
+ * and runs one {@link DeviceWorker} per device. Android and iOS devices run side by side in this JVM.
+ * Every class runs once on each platform it targets ({@link TargetPlatform}, or every platform with a configured
+ * device when it has none), so a cross-platform suite takes about as long as its slower platform.
+ *
+ * Usage:
+ * - ./gradlew shardedTest // with android.devices=emulator-5554,emulator-5556 and/or ios.devices=<udid> in test-config.properties
+ * - ./gradlew shardedTest -PimpactedOnly // Only classes selected by {@link ImpactSelector}
+ */
+@Slf4j
+public class ShardedSuiteRunner {
+
+    private static final String IMPACTED_ONLY_ARG = "--impacted-only";
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        TestConfig config = TestConfig.getInstance();
+        List<Device> devices = Device.configuredDevices();
+        if (devices.isEmpty()) {
+            throw new RuntimeException("❌ No devices configured. Set android.devices and/or ios.devices in test-config.properties");
+        }
+
+        TestDurationStore durations = TestDurationStore.getInstance();
+        Set<String> impacted = args.length > 1 && args[0].equals(IMPACTED_ONLY_ARG) ? ImpactSelector.readSelection(Paths.get(args[1])) : null;
+        Set<TestConfig.Platform> devicePlatforms = devices.stream().map(Device::getPlatform)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(TestConfig.Platform.class)));
+        List<TestUnit> units = new ArrayList<>();
+        for (Class<?> testClass : discoverTestClasses(config.getTestPackage())) {
+            if (impacted != null && !isImpacted(testClass.getName(), impacted)) {
+                continue;
+            }
+            for (TestConfig.Platform platform : platformsFor(testClass, devicePlatforms)) {
+                units.add(new TestUnit(testClass.getName(), platform, durations.estimate(testClass.getName(), platform)));
+            }
+        }
+
+        ShardScheduler scheduler = ShardScheduler.plan(units,
+                devices.stream().map(Device::getPlatform).collect(Collectors.toList()));
+        log.info("🗂️ Planned {} class runs on {} devices, estimated makespan {}s:{}",
+                units.size(), devices.size(), scheduler.getEstimatedMakespanMs() / 1000, scheduler.describePlan());
+        scheduler.getUnschedulable().forEach(unit ->
+                log.warn("⚠️ No configured device can run {} on {}", unit.getClassName(), unit.getPlatform()));
+
+        List<ClassResult> results = Collections.synchronizedList(new ArrayList<>());
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(devices.size());
+        for (int i = 0; i < devices.size(); i++) {
+            executor.submit(new DeviceWorker(i, devices.get(i), scheduler, results));
+        }
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        long makespanMs = System.currentTimeMillis() - start;
+
+        scheduler.getUnschedulable().forEach(unit -> log.error("❌ {} was not run on {}", unit.getClassName(), unit.getPlatform()));
+        for (TestConfig.Platform platform : devicePlatforms) {
+            List<ClassResult> platformResults = results.stream()
+                    .filter(result -> result.getPlatform() == platform)
+                    .collect(Collectors.toList());
+            log.info("📊 {}: {} classes, {} passed, {} failed, {} skipped, {}s of device time", platform, platformResults.size(),
+                    platformResults.stream().mapToLong(ClassResult::getSucceeded).sum(),
+                    platformResults.stream().mapToLong(ClassResult::getFailed).sum(),
+                    platformResults.stream().mapToLong(ClassResult::getSkipped).sum(),
+                    platformResults.stream().mapToLong(ClassResult::getDurationMs).sum() / 1000);
+        }
+        long failed = results.stream().mapToLong(ClassResult::getFailed).sum();
+        long passed = results.stream().mapToLong(ClassResult::getSucceeded).sum();
+        log.info("📊 Sharded run finished in {}s: {} passed, {} failed across {} devices",
+                makespanMs / 1000, passed, failed, devices.size());
+        System.exit(failed > 0 || results.size() < units.size() ? 1 : 0);
+    }
+
+    /**
+     * Shards are whole classes, so a class runs when it or any of its methods was selected
+     */
+    private static boolean isImpacted(String className, Set<String> impacted) {
+        return impacted.stream().anyMatch(testId -> testId.equals(className) || testId.startsWith(className + "#"));
+    }
+
+    /**
+     * Find all concrete BaseTest subclasses in a package
+     */
+    public static List<Class<?>> discoverTestClasses(String testPackage) {
+        TestPlan plan = LauncherFactory.create().discover(LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectPackage(testPackage))
+                .filters(ClassNameFilter.includeClassNamePatterns(ClassNameFilter.STANDARD_INCLUDE_PATTERN))
+                .build());
+
+        Set<Class<?>> testClasses = new LinkedHashSet<>();
+        for (TestIdentifier root : plan.getRoots()) {
+            for (TestIdentifier child : plan.getDescendants(root)) {
+                child.getSource()
+                        .filter(ClassSource.class::isInstance)
+                        .map(source -> ((ClassSource) source).getJavaClass())
+                        .filter(BaseTest.class::isAssignableFrom)
+                        .ifPresent(testClasses::add);
+            }
+        }
+        return new ArrayList<>(testClasses);
+    }
+
+    /**
+     * Get the platforms a class runs on: the ones it targets, or every platform with a configured device
+     */
+    static Set<TestConfig.Platform> platformsFor(Class<?> testClass, Set<TestConfig.Platform> devicePlatforms) {
+        TargetPlatform target = testClass.getAnnotation(TargetPlatform.class);
+        if (target == null || target.value().length == 0) {
+            return devicePlatforms;
+        }
+        return EnumSet.copyOf(Arrays.asList(target.value()));
+    }
+}
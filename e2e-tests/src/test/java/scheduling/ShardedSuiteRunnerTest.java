@@ -0,0 +1,40 @@
+package scheduling;
+
+import annotations.TargetPlatform;
+import config.TestConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static config.TestConfig.Platform.ANDROID;
+import static config.TestConfig.Platform.IOS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShardedSuiteRunnerTest {
+
+    @TargetPlatform(ANDROID)
+    private static class AndroidOnly {
+    }
+
+    @TargetPlatform({ANDROID, IOS})
+    private static class BothPlatforms {
+    }
+
+    private static class CrossPlatform {
+    }
+
+    @Test
+    void targetedClassesRunOnTheirPlatformsOnly() {
+        Set<TestConfig.Platform> devices = EnumSet.of(ANDROID, IOS);
+
+        assertEquals(EnumSet.of(ANDROID), ShardedSuiteRunner.platformsFor(AndroidOnly.class, devices));
+        assertEquals(EnumSet.of(ANDROID, IOS), ShardedSuiteRunner.platformsFor(BothPlatforms.class, EnumSet.of(ANDROID)));
+    }
+
+    @Test
+    void unannotatedClassesRunOnEveryPlatformWithADevice() {
+        assertEquals(EnumSet.of(ANDROID, IOS), ShardedSuiteRunner.platformsFor(CrossPlatform.class, EnumSet.of(ANDROID, IOS)));
+        assertEquals(EnumSet.of(IOS), ShardedSuiteRunner.platformsFor(CrossPlatform.class, EnumSet.of(IOS)));
+    }
+}
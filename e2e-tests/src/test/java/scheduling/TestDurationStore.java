@@ -0,0 +1,122 @@
+package scheduling;
+
+import config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Historical test durations used to plan shards.
+ * Durations are kept per test class and platform as an exponential moving average and persisted between runs.
+ * The average session setup cost (driver creation in BaseTest) is tracked separately under
+ * {@link #SESSION_SETUP_KEY} and added to classes that have no history yet.
+ */
+@Slf4j
+public class TestDurationStore {
+
+    public static final String SESSION_SETUP_KEY = "session-setup";
+    private static final double SMOOTHING = 0.5;
+    private static TestDurationStore instance;
+
+    private final Path file;
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    TestDurationStore(Path file) {
+        this.file = file;
+        load();
+    }
+
+    public static TestDurationStore getInstance() {
+        if (instance == null) {
+            synchronized (TestDurationStore.class) {
+                if (instance == null) {
+                    instance = new TestDurationStore(Paths.get(TestConfig.getInstance().getTestDurationsFile()));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the key a test class's durations on one platform are kept under
+     */
+    public static String key(String className, TestConfig.Platform platform) {
+        return className + "@" + platform;
+    }
+
+    /**
+     * Record a measured duration, blending it into the historical average
+     * @param key {@link #key(String, TestConfig.Platform)} or {@link #SESSION_SETUP_KEY}
+     */
+    public void record(String key, long durationMs) {
+        durations.merge(key, durationMs, (previous, current) -> Math.round(previous * (1 - SMOOTHING) + current * SMOOTHING));
+    }
+
+    /**
+     * Estimate how long a test class takes on a platform, including its session setup
+     * @return historical average, or the configured default plus the average setup cost when unknown
+     */
+    public long estimate(String className, TestConfig.Platform platform) {
+        Long known = durations.get(key(className, platform));
+        if (known == null) {
+            // History recorded before durations were kept per platform
+            known = durations.get(className);
+        }
+        if (known != null) {
+            return known;
+        }
+        long defaultMs = TestConfig.getInstance().getDefaultTestDurationSeconds() * 1000L;
+        return defaultMs + durations.getOrDefault(SESSION_SETUP_KEY, 0L);
+    }
+
+    public boolean hasHistory(String className, TestConfig.Platform platform) {
+        return durations.containsKey(key(className, platform)) || durations.containsKey(className);
+    }
+
+    /**
+     * Persist all durations
+     */
+    public synchronized void save() {
+        Properties properties = new Properties();
+        durations.forEach((key, value) -> properties.setProperty(key, String.valueOf(value)));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Historical test durations in ms");
+            }
+        } catch (IOException e) {
+            log.error("❌ Failed to save test durations to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.warn("⚠️ Failed to load test durations from {}: {}", file, e.getMessage());
+            return;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                durations.put(key, Long.parseLong(properties.getProperty(key)));
+            } catch (NumberFormatException e) {
+                log.warn("⚠️ Ignoring invalid duration for {}", key);
+            }
+        }
+        log.info("✅ Loaded {} historical test durations from {}", durations.size(), file);
+    }
+}
@@ -0,0 +1,49 @@
+package scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static config.TestConfig.Platform.ANDROID;
+import static config.TestConfig.Platform.IOS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestDurationStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void keepsAMovingAveragePerPlatformAcrossRuns() {
+        Path file = dir.resolve("durations.properties");
+        TestDurationStore store = new TestDurationStore(file);
+        store.record(TestDurationStore.key("tests.LoginTest", ANDROID), 10_000);
+        store.record(TestDurationStore.key("tests.LoginTest", ANDROID), 20_000);
+        store.record(TestDurationStore.key("tests.LoginTest", IOS), 40_000);
+        store.save();
+
+        TestDurationStore reloaded = new TestDurationStore(file);
+
+        assertEquals(15_000, reloaded.estimate("tests.LoginTest", ANDROID));
+        assertEquals(40_000, reloaded.estimate("tests.LoginTest", IOS));
+        assertFalse(reloaded.hasHistory("tests.OtherTest", ANDROID));
+    }
+
+    @Test
+    void fallsBackToHistoryRecordedBeforePlatformsWereTracked() throws IOException {
+        Path file = dir.resolve("legacy.properties");
+        Files.write(file, "tests.LoginTest=12000\ntests.BrokenTest=abc\n".getBytes(StandardCharsets.UTF_8));
+
+        TestDurationStore store = new TestDurationStore(file);
+
+        assertTrue(store.hasHistory("tests.LoginTest", IOS));
+        assertEquals(12_000, store.estimate("tests.LoginTest", IOS));
+        assertFalse(store.hasHistory("tests.BrokenTest", ANDROID));
+    }
+}
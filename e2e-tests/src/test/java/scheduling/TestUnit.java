@@ -0,0 +1,53 @@
+package scheduling;
+
+import config.TestConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A schedulable unit of work: one test class on one platform, with its estimated duration there.
+ * Classes are never split, so ordered flows (@TestMethodOrder) always run on one device in order.
+ * A class that runs on several platforms becomes one unit per platform, so it runs on each of them.
+ */
+public class TestUnit {
+
+    private final String className;
+    private final TestConfig.Platform platform;
+    private final long estimatedMs;
+    private final AtomicInteger requeues = new AtomicInteger();
+
+    public TestUnit(String className, TestConfig.Platform platform, long estimatedMs) {
+        this.className = className;
+        this.platform = platform;
+        this.estimatedMs = estimatedMs;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public TestConfig.Platform getPlatform() {
+        return platform;
+    }
+
+    public long getEstimatedMs() {
+        return estimatedMs;
+    }
+
+    /**
+     * Count a requeue after a device failure
+     * @return number of times the unit was requeued, including this one
+     */
+    public int markRequeued() {
+        return requeues.incrementAndGet();
+    }
+
+    public boolean canRunOn(TestConfig.Platform platform) {
+        return this.platform == platform;
+    }
+
+    @Override
+    public String toString() {
+        return className + " on " + platform + " (~" + estimatedMs / 1000 + "s)";
+    }
+}
@@ -0,0 +1,43 @@
+package state;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Authenticated app state captured once per device.
+ * For {@code DATA_SNAPSHOT} it holds the zipped contents of each captured data folder;
+ * for {@code NO_RESET} it only marks that the device's app is already logged in.
+ */
+public class AppStateSnapshot {
+
+    private final String deviceKey;
+    private final Map<String, byte[]> folders;
+    private final Instant capturedAt;
+
+    public AppStateSnapshot(String deviceKey, Map<String, byte[]> folders) {
+        this.deviceKey = deviceKey;
+        this.folders = Collections.unmodifiableMap(new LinkedHashMap<>(folders));
+        this.capturedAt = Instant.now();
+    }
+
+    public String getDeviceKey() {
+        return deviceKey;
+    }
+
+    /**
+     * Zipped folder contents keyed by path relative to the app's data directory
+     */
+    public Map<String, byte[]> getFolders() {
+        return folders;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    public long getSizeBytes() {
+        return folders.values().stream().mapToLong(bytes -> bytes.length).sum();
+    }
+}
@@ -0,0 +1,218 @@
+package state;
+
+import accounts.AccountLease;
+import accounts.AccountPool;
+import config.TestConfig;
+import drivers.DriverManager;
+import drivers.SessionAwareWait;
+import helpers.AppLifecycleHelper;
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.PullsFiles;
+import io.appium.java_client.PushesFiles;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import pages.HomePage;
+import pages.LoginPage;
+import pages.SingpassVerificationPage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Logs in once per device and account, and restores that authenticated state before tests that need it,
+ * so tests start on the post-login screen without replaying the login flow or depending on test order.
+ *
+ * Strategies (state.strategy):
+ * - DATA_SNAPSHOT: pulls the app's data folders (state.android.paths / state.ios.paths) after login and pushes
+ *   them back into a cleared app. Requires a debuggable Android build or an iOS simulator.
+ * - NO_RESET: keeps the logged-in app data on the device and only relaunches the app. Use this when the
+ *   session token lives in storage that cannot be copied (Android Keystore, iOS Keychain).
+ *
+ * Usage:
+ * - AuthStateManager.restore(); // Captures on first use for the current device, then restores
+ * - AuthStateManager.invalidate(); // Forces the next restore to log in again
+ */
+@Slf4j
+public class AuthStateManager {
+
+    private static final Duration AUTHENTICATED_TIMEOUT = Duration.ofSeconds(30);
+    private static final Map<String, CompletableFuture<AppStateSnapshot>> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Bring the app on the current device into the authenticated state, logging in first if no snapshot exists
+     */
+    public static void restore() {
+        String deviceKey = snapshotKey();
+        AppStateSnapshot snapshot = getOrCapture(deviceKey);
+        long start = System.currentTimeMillis();
+        if (applySnapshot(snapshot)) {
+            markLoggedIn();
+            log.info("✅ Authenticated state restored on {} in {} ms", deviceKey, System.currentTimeMillis() - start);
+            return;
+        }
+
+        log.warn("⚠️ Snapshot for {} no longer restores a logged-in app, capturing a new one", deviceKey);
+        snapshots.remove(deviceKey);
+        snapshot = getOrCapture(deviceKey);
+        if (!applySnapshot(snapshot)) {
+            throw new RuntimeException("❌ Failed to restore authenticated state on " + deviceKey);
+        }
+        markLoggedIn();
+    }
+
+    /**
+     * Drop the snapshot of the current device
+     */
+    public static void invalidate() {
+        snapshots.remove(snapshotKey());
+    }
+
+    /**
+     * Record on the lease that its account is logged in on this device again
+     */
+    private static void markLoggedIn() {
+        AccountLease lease = AccountPool.currentLease();
+        if (lease != null) {
+            lease.updateState(state -> state.withLoggedIn(true));
+        }
+    }
+
+    /**
+     * Snapshots hold one account's session, so they are keyed by device and leased account
+     */
+    private static String snapshotKey() {
+        AccountLease lease = AccountPool.currentLease();
+        String deviceKey = DriverManager.getDeviceKey();
+        return lease == null ? deviceKey : deviceKey + "/" + lease.getAccount().getUsername();
+    }
+
+    private static AppStateSnapshot getOrCapture(String deviceKey) {
+        CompletableFuture<AppStateSnapshot> created = new CompletableFuture<>();
+        CompletableFuture<AppStateSnapshot> existing = snapshots.putIfAbsent(deviceKey, created);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw new RuntimeException("❌ Authenticated state capture failed on " + deviceKey, e.getCause());
+            }
+        }
+
+        try {
+            AppStateSnapshot snapshot = capture(deviceKey);
+            created.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            snapshots.remove(deviceKey, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static AppStateSnapshot capture(String deviceKey) {
+        log.info("📦 Capturing authenticated state on {}...", deviceKey);
+        long start = System.currentTimeMillis();
+        TestConfig config = TestConfig.getInstance();
+        AppLifecycleHelper app = new AppLifecycleHelper();
+
+        app.resetApp();
+        LoginPage loginPage = new LoginPage();
+        loginPage.waitForPageLoad();
+        loginPage.loginWithDefaultCredentials();
+        if (!waitForAuthenticatedScreen()) {
+            throw new RuntimeException("❌ Login did not reach an authenticated screen on " + deviceKey);
+        }
+
+        Map<String, byte[]> folders = new LinkedHashMap<>();
+        if (config.getAuthStateStrategy() == TestConfig.AuthStateStrategy.DATA_SNAPSHOT) {
+            PullsFiles files = (PullsFiles) DriverManager.getDriver();
+            for (String path : config.getAuthStatePaths(DriverManager.getCurrentPlatform())) {
+                try {
+                    folders.put(path, files.pullFolder(app.toRemoteDataPath(path)));
+                } catch (Exception e) {
+                    log.warn("⚠️ Skipping app data folder '{}': {}", path, e.getMessage());
+                }
+            }
+        }
+
+        AppStateSnapshot snapshot = new AppStateSnapshot(deviceKey, folders);
+        log.info("✅ Authenticated state captured on {} in {} ms ({} bytes)",
+                deviceKey, System.currentTimeMillis() - start, snapshot.getSizeBytes());
+        return snapshot;
+    }
+
+    private static boolean applySnapshot(AppStateSnapshot snapshot) {
+        AppLifecycleHelper app = new AppLifecycleHelper();
+        if (TestConfig.getInstance().getAuthStateStrategy() == TestConfig.AuthStateStrategy.NO_RESET) {
+            app.relaunchApp();
+            return waitForAuthenticatedScreen();
+        }
+
+        app.terminateApp();
+        app.clearAppData();
+        PushesFiles files = (PushesFiles) DriverManager.getDriver();
+        for (Map.Entry<String, byte[]> folder : snapshot.getFolders().entrySet()) {
+            for (Map.Entry<String, byte[]> file : unzip(folder.getKey(), folder.getValue()).entrySet()) {
+                String remotePath = app.toRemoteDataPath(folder.getKey() + "/" + file.getKey());
+                files.pushFile(remotePath, Base64.getEncoder().encode(file.getValue()));
+            }
+        }
+        app.activateApp();
+        return waitForAuthenticatedScreen();
+    }
+
+    /**
+     * Wait for any screen that is only reachable when logged in: the Singpass prompt or the home page
+     * @return false if neither appeared within the timeout
+     */
+    public static boolean waitForAuthenticatedScreen() {
+        AppiumDriver driver = DriverManager.getDriver();
+        try {
+            new SessionAwareWait(driver, AUTHENTICATED_TIMEOUT).until(ExpectedConditions.or(
+                    ExpectedConditions.visibilityOfElementLocated(AppiumBy.accessibilityId(HomePage.PAGE_ACCESSIBILITY_ID)),
+                    ExpectedConditions.visibilityOfElementLocated(AppiumBy.accessibilityId(SingpassVerificationPage.PAGE_ACCESSIBILITY_ID))));
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Extract a pulled folder archive into file paths relative to that folder
+     */
+    static Map<String, byte[]> unzip(String folder, byte[] zip) {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    entries.put(entry.getName(), in.readAllBytes());
+                    names.add(entry.getName());
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to read snapshot of '" + folder + "': " + e.getMessage(), e);
+        }
+
+        // Some drivers include the pulled folder itself as the archive root
+        String folderName = folder.substring(folder.lastIndexOf('/') + 1) + "/";
+        if (!names.isEmpty() && names.stream().allMatch(name -> name.startsWith(folderName))) {
+            Map<String, byte[]> stripped = new LinkedHashMap<>();
+            entries.forEach((name, bytes) -> stripped.put(name.substring(folderName.length()), bytes));
+            return stripped;
+        }
+        return entries;
+    }
+}
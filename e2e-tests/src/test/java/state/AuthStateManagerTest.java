@@ -0,0 +1,84 @@
+package state;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Covers unpacking pulled app data folders, which differs between Appium drivers
+ */
+class AuthStateManagerTest {
+
+    @Test
+    void unpacksFilesRelativeToThePulledFolder() throws IOException {
+        Map<String, byte[]> files = AuthStateManager.unzip("shared_prefs", zip(
+                "session.xml", "token",
+                "nested/", null,
+                "nested/flags.xml", "on"));
+
+        assertEquals(2, files.size());
+        assertArrayEquals(bytes("token"), files.get("session.xml"));
+        assertArrayEquals(bytes("on"), files.get("nested/flags.xml"));
+    }
+
+    @Test
+    void stripsTheFolderItselfWhenTheArchiveUsesItAsRoot() throws IOException {
+        Map<String, byte[]> files = AuthStateManager.unzip("Library/Preferences", zip(
+                "Preferences/app.plist", "plist",
+                "Preferences/other.plist", "other"));
+
+        assertEquals(Map.of("app.plist", "plist", "other.plist", "other"), strings(files));
+    }
+
+    @Test
+    void keepsPathsWhenOnlySomeEntriesShareTheFolderName() throws IOException {
+        Map<String, byte[]> files = AuthStateManager.unzip("files", zip(
+                "files/a.txt", "a",
+                "b.txt", "b"));
+
+        assertEquals(Map.of("files/a.txt", "a", "b.txt", "b"), strings(files));
+    }
+
+    @Test
+    void rejectsTruncatedArchives() throws IOException {
+        byte[] archive = zip("data.bin", "x".repeat(10_000) + "y".repeat(10_000));
+        byte[] corrupt = Arrays.copyOf(archive, archive.length / 2);
+
+        assertThrows(RuntimeException.class, () -> AuthStateManager.unzip("files", corrupt));
+    }
+
+    private static byte[] zip(String... namesAndContents) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(namesAndContents[i]));
+                if (namesAndContents[i + 1] != null) {
+                    zip.write(bytes(namesAndContents[i + 1]));
+                }
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static Map<String, String> strings(Map<String, byte[]> files) {
+        Map<String, String> strings = new LinkedHashMap<>();
+        files.forEach((name, content) -> strings.put(name, new String(content, StandardCharsets.UTF_8)));
+        return strings;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
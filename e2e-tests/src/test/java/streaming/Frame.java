@@ -0,0 +1,106 @@
+package streaming;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * One slot of the stream's frame buffer: the encoded JPEG and a small grayscale thumbnail used for
+ * change detection. Slots are reused for later frames, so a frame is only valid until the next
+ * {@link ScreenStream#latestFrame()} call on the same stream.
+ */
+public class Frame {
+
+    private byte[] jpeg = new byte[64 * 1024];
+    private int jpegLength;
+    private float[] thumbnail = new float[0];
+    private int thumbnailWidth;
+    private int thumbnailHeight;
+    private long sequence;
+    private long capturedAt;
+
+    /**
+     * Grow the JPEG buffer, keeping the bytes read so far (frames without Content-Length grow while being read)
+     */
+    byte[] ensureJpegCapacity(int length) {
+        if (jpeg.length < length) {
+            jpeg = Arrays.copyOf(jpeg, Math.max(length, jpeg.length * 2));
+        }
+        return jpeg;
+    }
+
+    float[] ensureThumbnailCapacity(int width, int height) {
+        if (thumbnail.length < width * height) {
+            thumbnail = new float[width * height];
+        }
+        thumbnailWidth = width;
+        thumbnailHeight = height;
+        return thumbnail;
+    }
+
+    void complete(int length, long sequence, long capturedAt) {
+        this.jpegLength = length;
+        this.sequence = sequence;
+        this.capturedAt = capturedAt;
+    }
+
+    /**
+     * Sequence number of the frame in the stream, starting at 1; 0 for an empty slot
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    public int getThumbnailWidth() {
+        return thumbnailWidth;
+    }
+
+    public int getThumbnailHeight() {
+        return thumbnailHeight;
+    }
+
+    /**
+     * Copy of the encoded JPEG, safe to keep after the slot is reused
+     */
+    public byte[] copyJpeg() {
+        return Arrays.copyOf(jpeg, jpegLength);
+    }
+
+    public void writeJpeg(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, copyJpeg());
+    }
+
+    /**
+     * Copy the thumbnail into a caller-owned array, growing it if needed
+     */
+    public float[] copyThumbnail(float[] target) {
+        int size = thumbnailWidth * thumbnailHeight;
+        float[] copy = target != null && target.length >= size ? target : new float[size];
+        System.arraycopy(thumbnail, 0, copy, 0, size);
+        return copy;
+    }
+
+    /**
+     * Mean absolute difference to another thumbnail of the same size, 0-255
+     * @return difference, or Double.MAX_VALUE if sizes differ
+     */
+    public double difference(float[] other, int otherWidth, int otherHeight) {
+        if (other == null || otherWidth != thumbnailWidth || otherHeight != thumbnailHeight) {
+            return Double.MAX_VALUE;
+        }
+        int size = thumbnailWidth * thumbnailHeight;
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += Math.abs(thumbnail[i] - other[i]);
+        }
+        return size == 0 ? 0 : total / size;
+    }
+}
@@ -0,0 +1,45 @@
+package streaming;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free triple buffer between the stream reader and one consumer.
+ * The reader always writes into its own back slot and publishes it by swapping with the middle slot;
+ * the consumer swaps its front slot with the middle slot only when a newer frame was published.
+ * Neither side ever waits and memory stays at three frames.
+ */
+final class FrameExchange {
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final Frame[] slots = {new Frame(), new Frame(), new Frame()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+
+    /**
+     * Slot the reader fills next. Reader thread only.
+     */
+    Frame back() {
+        return slots[back];
+    }
+
+    /**
+     * Make the back slot the latest frame. Reader thread only.
+     */
+    void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Take the latest published frame if there is a newer one. Consumer only.
+     * @return the consumer's current frame
+     */
+    Frame acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return slots[front];
+    }
+}
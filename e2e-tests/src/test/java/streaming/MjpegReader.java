@@ -0,0 +1,204 @@
+package streaming;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background reader of a multipart MJPEG stream. Parses each part, decodes the JPEG subsampled
+ * straight to thumbnail size and publishes it through the {@link FrameExchange}.
+ * Buffers are reused between frames; the connection is re-opened if the server drops it.
+ */
+@Slf4j
+final class MjpegReader implements Runnable {
+
+    private static final int THUMBNAIL_WIDTH = 160;
+    private static final int MAX_HEADER_LINE = 1024;
+    private static final long RECONNECT_DELAY_MS = 500;
+
+    private final URL url;
+    private final FrameExchange exchange;
+    private final byte[] line = new byte[MAX_HEADER_LINE];
+    private final ImageReader decoder = ImageIO.getImageReadersByFormatName("jpeg").next();
+    private BufferedImage decodeTarget;
+    private volatile boolean running = true;
+    private volatile long frames;
+    private volatile long decodeNanos;
+    private volatile String lastError;
+    private HttpURLConnection connection;
+
+    MjpegReader(URL url, FrameExchange exchange) {
+        this.url = url;
+        this.exchange = exchange;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                connection = (HttpURLConnection) url.openConnection();
+                connection.setConnectTimeout(2000);
+                connection.setReadTimeout(5000);
+                try (InputStream in = new BufferedInputStream(connection.getInputStream(), 64 * 1024)) {
+                    readParts(in);
+                }
+            } catch (IOException | RuntimeException e) {
+                if (running) {
+                    lastError = e.getMessage();
+                    log.debug("MJPEG stream {} interrupted: {}", url, e.getMessage());
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(RECONNECT_DELAY_MS));
+                }
+            } finally {
+                if (connection != null) {
+                    connection.disconnect();
+                }
+            }
+        }
+        decoder.dispose();
+    }
+
+    void stop() {
+        running = false;
+        HttpURLConnection current = connection;
+        if (current != null) {
+            current.disconnect();
+        }
+    }
+
+    long getFrames() {
+        return frames;
+    }
+
+    long getDecodeNanos() {
+        return decodeNanos;
+    }
+
+    String getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Parse parts until the stream ends or the reader is stopped
+     */
+    void readParts(InputStream in) throws IOException {
+        while (running) {
+            int contentLength = readPartHeaders(in);
+            Frame frame = exchange.back();
+            int length = contentLength >= 0 ? readFixed(in, frame, contentLength) : readUntilEndOfImage(in, frame);
+            long start = System.nanoTime();
+            decodeThumbnail(frame, length);
+            decodeNanos += System.nanoTime() - start;
+            frames++;
+            frame.complete(length, frames, System.currentTimeMillis());
+            exchange.publish();
+        }
+    }
+
+    /**
+     * Skip the boundary and part headers
+     * @return Content-Length of the part, or -1 if the server does not send one
+     */
+    private int readPartHeaders(InputStream in) throws IOException {
+        int contentLength = -1;
+        boolean inHeaders = false;
+        while (true) {
+            int length = readLine(in);
+            if (length == 0) {
+                if (inHeaders) {
+                    return contentLength;
+                }
+                continue;
+            }
+            inHeaders = true;
+            String header = new String(line, 0, length, StandardCharsets.US_ASCII);
+            int colon = header.indexOf(':');
+            if (colon > 0 && header.substring(0, colon).trim().equalsIgnoreCase("Content-Length")) {
+                contentLength = Integer.parseInt(header.substring(colon + 1).trim());
+            }
+        }
+    }
+
+    private int readLine(InputStream in) throws IOException {
+        int length = 0;
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException("MJPEG stream ended");
+            }
+            if (b != '\r' && length < line.length) {
+                line[length++] = (byte) b;
+            }
+        }
+        return length;
+    }
+
+    private int readFixed(InputStream in, Frame frame, int length) throws IOException {
+        byte[] buffer = frame.ensureJpegCapacity(length);
+        int read = in.readNBytes(buffer, 0, length);
+        if (read < length) {
+            throw new EOFException("MJPEG stream ended mid-frame");
+        }
+        return length;
+    }
+
+    /**
+     * Read up to and including the JPEG end-of-image marker, for servers that omit Content-Length
+     */
+    private int readUntilEndOfImage(InputStream in, Frame frame) throws IOException {
+        byte[] buffer = frame.ensureJpegCapacity(64 * 1024);
+        int length = 0;
+        int previous = -1;
+        int b;
+        while ((b = in.read()) >= 0) {
+            if (length == buffer.length) {
+                buffer = frame.ensureJpegCapacity(length * 2);
+            }
+            buffer[length++] = (byte) b;
+            if (previous == 0xFF && b == 0xD9) {
+                return length;
+            }
+            previous = b;
+        }
+        throw new EOFException("MJPEG stream ended mid-frame");
+    }
+
+    private void decodeThumbnail(Frame frame, int length) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(frame.ensureJpegCapacity(length), 0, length))) {
+            decoder.setInput(input, true, true);
+            int width = decoder.getWidth(0);
+            int height = decoder.getHeight(0);
+            int subsampling = Math.max(1, width / THUMBNAIL_WIDTH);
+            int targetWidth = (width + subsampling - 1) / subsampling;
+            int targetHeight = (height + subsampling - 1) / subsampling;
+
+            ImageReadParam param = decoder.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            if (decodeTarget == null || decodeTarget.getWidth() != targetWidth || decodeTarget.getHeight() != targetHeight) {
+                decodeTarget = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_3BYTE_BGR);
+            }
+            param.setDestination(decodeTarget);
+            decoder.read(0, param);
+
+            byte[] bgr = ((DataBufferByte) decodeTarget.getRaster().getDataBuffer()).getData();
+            float[] gray = frame.ensureThumbnailCapacity(targetWidth, targetHeight);
+            for (int i = 0, p = 0; i < targetWidth * targetHeight; i++, p += 3) {
+                gray[i] = 0.114f * (bgr[p] & 0xff) + 0.587f * (bgr[p + 1] & 0xff) + 0.299f * (bgr[p + 2] & 0xff);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package streaming;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MjpegReaderTest {
+
+    @Test
+    void parsesPartsWithAndWithoutContentLength() throws IOException {
+        byte[] first = jpeg(320, 240, Color.WHITE, false);
+        byte[] second = jpeg(640, 480, Color.BLACK, false);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        part(stream, first, true);
+        part(stream, second, false);
+        FrameExchange exchange = new FrameExchange();
+        MjpegReader reader = new MjpegReader(URI.create("http://127.0.0.1:1/stream").toURL(), exchange);
+
+        assertThrows(EOFException.class, () -> reader.readParts(new ByteArrayInputStream(stream.toByteArray())));
+
+        assertEquals(2, reader.getFrames());
+        Frame latest = exchange.acquire();
+        assertEquals(2, latest.getSequence());
+        assertArrayEquals(second, latest.copyJpeg());
+        assertEquals(160, latest.getThumbnailWidth());
+        assertEquals(120, latest.getThumbnailHeight());
+    }
+
+    @Test
+    void growsTheBufferForLargeFramesWithoutContentLength() throws IOException {
+        byte[] large = jpeg(1280, 960, Color.GRAY, true);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        part(stream, large, false);
+        FrameExchange exchange = new FrameExchange();
+        MjpegReader reader = new MjpegReader(URI.create("http://127.0.0.1:1/stream").toURL(), exchange);
+
+        assertThrows(EOFException.class, () -> reader.readParts(new ByteArrayInputStream(stream.toByteArray())));
+
+        assertEquals(1, reader.getFrames());
+        assertArrayEquals(large, exchange.acquire().copyJpeg());
+    }
+
+    private static void part(ByteArrayOutputStream stream, byte[] jpeg, boolean withContentLength) throws IOException {
+        StringBuilder headers = new StringBuilder("--BoundaryString\r\nContent-Type: image/jpeg\r\n");
+        if (withContentLength) {
+            headers.append("Content-Length: ").append(jpeg.length).append("\r\n");
+        }
+        headers.append("\r\n");
+        stream.write(headers.toString().getBytes(StandardCharsets.US_ASCII));
+        stream.write(jpeg);
+        stream.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param noisy fill with random pixels so the JPEG is well over the initial 64 KB buffer
+     */
+    private static byte[] jpeg(int width, int height, Color color, boolean noisy) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        if (noisy) {
+            Random random = new Random(42);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    image.setRGB(x, y, random.nextInt(0xFFFFFF));
+                }
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+}
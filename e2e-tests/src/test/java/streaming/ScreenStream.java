@@ -0,0 +1,176 @@
+package streaming;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Live view of the device screen from the driver's MJPEG server (mjpegServerPort).
+ * Frames are read and decoded on a background thread into a fixed set of reusable buffers, so visual
+ * waits, stability checks and failure captures read the latest frame locally instead of sending a
+ * screenshot command. Memory stays constant no matter how many frames arrive.
+ *
+ * Consumer methods are meant for the session's own thread.
+ *
+ * Usage:
+ * - ScreenStream stream = DriverManager.getScreenStream(); // null when stream.enabled=false
+ * - stream.waitForStableScreen(Duration.ofMillis(500), Duration.ofSeconds(10));
+ * - stream.saveLatestFrame(Paths.get("screenshots/failure.jpg"));
+ */
+@Slf4j
+public class ScreenStream implements AutoCloseable {
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long LIVE_WINDOW_MS = 2000;
+    private static final double STABLE_DIFFERENCE = 1.0;
+    private static final double CHANGE_DIFFERENCE = 4.0;
+
+    private final URL url;
+    private final FrameExchange exchange = new FrameExchange();
+    private final MjpegReader reader;
+    private final Thread readerThread;
+    private final long openedAt = System.currentTimeMillis();
+
+    private ScreenStream(URL url) {
+        this.url = url;
+        this.reader = new MjpegReader(url, exchange);
+        this.readerThread = new Thread(reader, "mjpeg-" + url.getPort());
+        readerThread.setDaemon(true);
+    }
+
+    /**
+     * Start reading the stream in the background
+     */
+    public static ScreenStream open(URL url) {
+        ScreenStream stream = new ScreenStream(url);
+        stream.readerThread.start();
+        log.info("🎞️ Reading screen stream from {}", url);
+        return stream;
+    }
+
+    /**
+     * Get the most recent frame
+     * @return frame valid until the next call, or null if no frame arrived yet
+     */
+    public synchronized Frame latestFrame() {
+        Frame frame = exchange.acquire();
+        return frame.getSequence() == 0 ? null : frame;
+    }
+
+    /**
+     * Check if a frame arrived recently
+     */
+    public boolean isLive() {
+        Frame frame = latestFrame();
+        return frame != null && System.currentTimeMillis() - frame.getCapturedAt() < LIVE_WINDOW_MS;
+    }
+
+    /**
+     * Wait for a frame captured at or after a point in time, e.g. after an action
+     * @return frame, or null if none arrived in time
+     */
+    public synchronized Frame awaitFrameAfter(long timestampMillis, Duration timeout) {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        while (true) {
+            Frame frame = latestFrame();
+            if (frame != null && frame.getCapturedAt() >= timestampMillis) {
+                return frame;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return null;
+            }
+            LockSupport.parkNanos(POLL_NANOS);
+        }
+    }
+
+    /**
+     * Wait until the screen stops changing, e.g. after a transition or while a spinner is shown
+     * @param stableFor how long consecutive frames must stay the same
+     * @return true once stable, false if the timeout passed first or no frames arrived
+     */
+    public synchronized boolean waitForStableScreen(Duration stableFor, Duration timeout) {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        float[] previous = null;
+        int previousWidth = 0;
+        int previousHeight = 0;
+        long previousSequence = 0;
+        long stableSince = -1;
+        while (System.currentTimeMillis() < deadline) {
+            Frame frame = latestFrame();
+            if (frame != null && frame.getSequence() != previousSequence) {
+                if (frame.difference(previous, previousWidth, previousHeight) <= STABLE_DIFFERENCE) {
+                    if (stableSince < 0) {
+                        stableSince = frame.getCapturedAt();
+                    }
+                    if (frame.getCapturedAt() - stableSince >= stableFor.toMillis()) {
+                        return true;
+                    }
+                } else {
+                    stableSince = -1;
+                }
+                previous = frame.copyThumbnail(previous);
+                previousWidth = frame.getThumbnailWidth();
+                previousHeight = frame.getThumbnailHeight();
+                previousSequence = frame.getSequence();
+            }
+            LockSupport.parkNanos(POLL_NANOS);
+        }
+        return false;
+    }
+
+    /**
+     * Wait until the screen differs visibly from the current frame
+     * @return true if it changed within the timeout
+     */
+    public synchronized boolean waitForChange(Duration timeout) {
+        Frame baseline = latestFrame();
+        if (baseline == null) {
+            return false;
+        }
+        float[] reference = baseline.copyThumbnail(null);
+        int width = baseline.getThumbnailWidth();
+        int height = baseline.getThumbnailHeight();
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            Frame frame = latestFrame();
+            if (frame.difference(reference, width, height) > CHANGE_DIFFERENCE) {
+                return true;
+            }
+            LockSupport.parkNanos(POLL_NANOS);
+        }
+        return false;
+    }
+
+    /**
+     * Write the latest frame as JPEG
+     * @return true if a live frame was written
+     */
+    public boolean saveLatestFrame(Path file) throws IOException {
+        Frame frame = latestFrame();
+        if (frame == null || System.currentTimeMillis() - frame.getCapturedAt() >= LIVE_WINDOW_MS) {
+            return false;
+        }
+        frame.writeJpeg(file);
+        return true;
+    }
+
+    public long getFramesReceived() {
+        return reader.getFrames();
+    }
+
+    @Override
+    public void close() {
+        reader.stop();
+        readerThread.interrupt();
+        long frames = reader.getFrames();
+        long seconds = Math.max(1, (System.currentTimeMillis() - openedAt) / 1000);
+        log.info("🎞️ Closed screen stream {}: {} frames ({}/min), avg decode {} ms{}", url, frames, frames * 60 / seconds,
+                frames == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(reader.getDecodeNanos() / frames),
+                frames == 0 && reader.getLastError() != null ? ", last error: " + reader.getLastError() : "");
+    }
+}
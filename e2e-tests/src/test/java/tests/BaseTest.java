@@ -1,29 +1,55 @@
 package tests;
 
+import accounts.AccountPool;
 import drivers.DriverManager;
+import extensions.DependencyExtension;
+import extensions.DurationRecordingExtension;
+import extensions.EventLogExtension;
+import extensions.ImpactRecordingExtension;
+import extensions.SessionRecoveryExtension;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import retry.Checkpoints;
+import scheduling.TestDurationStore;
 
 /**
  * Base test class that all test classes should extend
  * Handles common setup, teardown, and popup management
  */
 @Slf4j
+@ExtendWith({EventLogExtension.class, DurationRecordingExtension.class, SessionRecoveryExtension.class,
+        DependencyExtension.class, ImpactRecordingExtension.class})
 public abstract class BaseTest {
 
     @BeforeAll
     public static void setUpDriver() {
         log.info("🚀 Setting up driver for test suite...");
         try {
+            AccountPool.leaseForCurrentThread();
+            long start = System.currentTimeMillis();
             DriverManager.initializeDriver();
-            log.info("✅ Driver initialized successfully");
+            long setupMs = System.currentTimeMillis() - start;
+            TestDurationStore.getInstance().record(TestDurationStore.SESSION_SETUP_KEY, setupMs);
+            log.info("✅ Driver initialized successfully in {} ms", setupMs);
         } catch (Exception e) {
             log.error("❌ Error during driver setup: {}", e.getMessage());
             throw e;
         }
     }
 
+    @BeforeEach
+    public void renewAccountLease() {
+        AccountPool.renewCurrentThread();
+    }
+
+    @BeforeEach
+    public void clearCheckpoint() {
+        Checkpoints.clear();
+    }
+
     @AfterAll
     public static void tearDownDriver() {
         try {
@@ -32,6 +58,8 @@ public abstract class BaseTest {
             log.info("✅ Driver quit successfully");
         } catch (Exception e) {
             log.error("❌ Error during driver teardown: {}", e.getMessage());
+        } finally {
+            AccountPool.releaseCurrentThread();
         }
     }
 }
@@ -32,9 +32,11 @@ if [ ! -d "mobile" ] || [ ! -d "e2e-tests" ]; then
     exit 1
 fi
 
-# Check if Appium server is running
-print_status "Checking if Appium server is running..."
-if ! curl -s http://localhost:4723/status > /dev/null; then
+# Check if Appium server is running (skipped when the tests start their own servers)
+CONFIG_FILE="e2e-tests/src/test/resources/test-config.properties"
+if [ -f "$CONFIG_FILE" ] && grep -q "^appium.server.managed=true" "$CONFIG_FILE"; then
+    print_status "Managed Appium servers enabled, tests will start their own servers"
+elif print_status "Checking if Appium server is running..." && ! curl -s http://localhost:4723/status > /dev/null; then
     print_warning "Appium server is not running on localhost:4723"
     print_warning "Please start Appium server with: appium"
     print_warning "Or install and start with: npm install -g appium && appium"